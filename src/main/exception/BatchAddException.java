@@ -0,0 +1,33 @@
+package exception;
+
+import model.Course;
+
+import java.util.List;
+import java.util.Map;
+
+// Represents the exception when adding a batch of courses of which some are already in the worklist
+// (or repeated in the batch), or conflict with existing courses or with other courses of the batch
+public class BatchAddException extends Exception {
+
+    private List<Course> duplicateCourses;
+    private Map<Course, List<Course>> conflicts;
+
+    // EFFECTS: constructs an exception with the duplicate courses of the batch, and the courses of the
+    //          batch mapped to the existing or earlier batch courses they conflict with
+    public BatchAddException(List<Course> duplicateCourses, Map<Course, List<Course>> conflicts) {
+        this.duplicateCourses = duplicateCourses;
+        this.conflicts = conflicts;
+    }
+
+    // EFFECTS: returns the courses of the batch that are already in the worklist or repeated in the batch
+    public List<Course> getDuplicateCourses() {
+        return duplicateCourses;
+    }
+
+    // EFFECTS: returns the courses of the batch mapped to the existing courses and earlier courses of the
+    //          batch that they conflict with, in batch order
+    public Map<Course, List<Course>> getConflicts() {
+        return conflicts;
+    }
+
+}
@@ -1,6 +1,28 @@
 package exception;
 
+import model.Course;
+
+import java.util.ArrayList;
+import java.util.List;
+
 // Represents the exception when adding a course that conflicts with existing courses
 public class CourseConflictsException extends Exception {
-    
+
+    private List<Course> conflictingCourses;
+
+    // EFFECTS: constructs an exception without the conflicting courses
+    public CourseConflictsException() {
+        this.conflictingCourses = new ArrayList<>();
+    }
+
+    // EFFECTS: constructs an exception with the existing courses that conflict with the added course
+    public CourseConflictsException(List<Course> conflictingCourses) {
+        this.conflictingCourses = conflictingCourses;
+    }
+
+    // EFFECTS: returns the existing courses that conflict with the added course
+    public List<Course> getConflictingCourses() {
+        return conflictingCourses;
+    }
+
 }
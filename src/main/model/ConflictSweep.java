@@ -0,0 +1,96 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Represents a sweep line over the meetings of many schedules, which finds every pair of overlapping
+// schedules in O(n log n + k) time for n schedules and k overlapping pairs; for each weekday, the
+// schedules meeting on that day are visited in order of starting time, keeping the ones that have not
+// yet ended as active, and each overlapping pair is reported on the first weekday the two share
+public final class ConflictSweep {
+
+    // Represents a visitor of the pairs of overlapping schedules found by a sweep
+    public interface PairVisitor {
+
+        // EFFECTS: visits the pair of overlapping schedules with indices i < j
+        void visit(int i, int j);
+    }
+
+    // EFFECTS: constructs nothing; this class only has static methods
+    private ConflictSweep() {
+    }
+
+    // EFFECTS: calls visitor.visit(i, j) exactly once for each pair of indices i < j of schedules
+    //          such that schedules.get(i) overlaps schedules.get(j)
+    public static void forEachConflict(List<Schedule> schedules, PairVisitor visitor) {
+        int[] degenerate = new int[schedules.size()];
+        int numDegenerate = 0;
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            if (s.getEndMinute() <= s.getStartMinute()) {
+                degenerate[numDegenerate++] = i;
+            }
+        }
+        for (int day = 0; day < Weekday.values().length; day++) {
+            sweepDay(schedules, day, visitor);
+        }
+        for (int k = 0; k < numDegenerate; k++) {
+            visitDegenerate(schedules, degenerate[k], visitor);
+        }
+    }
+
+    // EFFECTS: visits the pairs of overlapping schedules with proper intervals (start before end) whose
+    //          first common weekday is day; the starting minute and index of each schedule meeting on day
+    //          are packed in a long, so that sorting the longs sorts the schedules by starting time
+    private static void sweepDay(List<Schedule> schedules, int day, PairVisitor visitor) {
+        long[] starts = new long[schedules.size()];
+        int n = 0;
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule s = schedules.get(i);
+            if ((s.getDayMask() & (1 << day)) != 0 && s.getStartMinute() < s.getEndMinute()) {
+                starts[n++] = ((long) s.getStartMinute() << 32) | i;
+            }
+        }
+        Arrays.sort(starts, 0, n);
+        int[] active = new int[n];
+        int numActive = 0;
+        for (int k = 0; k < n; k++) {
+            int i = (int) starts[k];
+            Schedule s = schedules.get(i);
+            numActive = removeEnded(schedules, active, numActive, s.getStartMinute());
+            for (int a = 0; a < numActive; a++) {
+                Schedule t = schedules.get(active[a]);
+                if (Integer.numberOfTrailingZeros(s.getDayMask() & t.getDayMask()) == day) {
+                    visitor.visit(Math.min(i, active[a]), Math.max(i, active[a]));
+                }
+            }
+            active[numActive++] = i;
+        }
+    }
+
+    // MODIFIES: active
+    // EFFECTS: removes from the first numActive entries of active the schedules ending at or before minute,
+    //          keeping the order of the others, and returns the number of entries left
+    private static int removeEnded(List<Schedule> schedules, int[] active, int numActive, int minute) {
+        int kept = 0;
+        for (int a = 0; a < numActive; a++) {
+            if (schedules.get(active[a]).getEndMinute() > minute) {
+                active[kept++] = active[a];
+            }
+        }
+        return kept;
+    }
+
+    // EFFECTS: visits the pairs of schedule i, which is empty or ends before it starts, and each schedule
+    //          with a proper interval overlapping it; two such schedules as i never overlap each other
+    private static void visitDegenerate(List<Schedule> schedules, int i, PairVisitor visitor) {
+        Schedule s = schedules.get(i);
+        for (int j = 0; j < schedules.size(); j++) {
+            Schedule t = schedules.get(j);
+            if (t.getStartMinute() < t.getEndMinute() && s.isOverlapping(t)) {
+                visitor.visit(Math.min(i, j), Math.max(i, j));
+            }
+        }
+    }
+
+}
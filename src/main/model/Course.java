@@ -4,17 +4,13 @@ import exception.IllegalCodesException;
 import org.json.JSONObject;
 import persistence.Writable;
 
-import java.util.Objects;
-
 // Represents a university course with subject code, course code, section code,
 // title, schedule, credits, and its special attributes for the student
 public class Course implements Writable {
 
     public static final int CREDIT_LIMIT = 8;
 
-    private String subjectCode;
-    private String courseCode;
-    private String sectionCode;
+    private CourseKey key;
     private String title;
     private Schedule schedule;
     private int credits;
@@ -24,9 +20,13 @@ public class Course implements Writable {
     // EFFECTS: constructs a new course with subject code, subject code;
     //          !!! ONLY used for operations on courses
     public Course(String subject, String course, String section) {
-        this.subjectCode = subject;
-        this.courseCode = course;
-        this.sectionCode = section;
+        this.key = CourseKey.of(subject, course, section);
+    }
+
+    // EFFECTS: constructs a new course with the codes of key;
+    //          !!! ONLY used for operations on courses
+    public Course(CourseKey key) {
+        this.key = key;
     }
 
     // EFFECTS: constructs a new course with subject code, subject code, course code,
@@ -34,9 +34,7 @@ public class Course implements Writable {
     //          with unstarred
     public Course(String subject, String course, String section, String title,
                   Schedule schedule, int credits, boolean required) {
-        this.subjectCode = subject;
-        this.courseCode = course;
-        this.sectionCode = section;
+        this.key = CourseKey.of(subject, course, section);
         this.title = title;
         this.schedule = schedule;
         this.credits = credits;
@@ -50,9 +48,7 @@ public class Course implements Writable {
     //          !!! ONLY used to save/load courses
     public Course(String subject, String course, String section, String title,
                   Schedule schedule, int credits, boolean required, boolean starred) {
-        this.subjectCode = subject;
-        this.courseCode = course;
-        this.sectionCode = section;
+        this.key = CourseKey.of(subject, course, section);
         this.title = title;
         this.schedule = schedule;
         this.credits = credits;
@@ -102,19 +98,24 @@ public class Course implements Writable {
         }
     }
 
+    // EFFECTS: returns the key of subject, course, and section codes identifying this course
+    public CourseKey getKey() {
+        return key;
+    }
+
     // EFFECTS: returns subject code of this course
     public String getSubjectCode() {
-        return subjectCode;
+        return key.getSubjectCode();
     }
 
     // EFFECTS: returns course code of this course
     public String getCourseCode() {
-        return courseCode;
+        return key.getCourseCode();
     }
 
     // EFFECTS: returns section code of this course
     public String getSectionCode() {
-        return sectionCode;
+        return key.getSectionCode();
     }
 
     // EFFECTS: returns title of this course
@@ -173,15 +174,20 @@ public class Course implements Writable {
     // EFFECTS: returns a string of subject code and course code in format
     //          "<subjectCode> <courseCode>"; e.g., "CPSC 210"
     public String getSubjectCourseCode() {
-        return subjectCode + " " + courseCode;
+        return key.getSubjectCourseCode();
+    }
+
+    // EFFECTS: returns a new unstarred course with the codes, title, schedule, and credits of this course,
+    //          and whether it is required, so that changes to either course do not affect the other
+    public Course copy(boolean required) {
+        return new Course(getSubjectCode(), getCourseCode(), getSectionCode(), title, schedule, credits, required);
     }
 
     // EFFECTS: returns a string of format "<subjectCode> <courseCode> <sectionCode> - <title>\t <schedule>"
     //          e.g., "CPSC 210 921 - Software Construction Tue Thu 9:30-13:00"
     @Override
     public String toString() {
-        return getSubjectCourseCode() + " " + sectionCode + " - "
-                + title + "\t" + schedule.toString();
+        return key.toString() + " - " + title + "\t" + schedule.toString();
     }
 
     // EFFECTS: returns true if o has the same subject, course,
@@ -195,24 +201,22 @@ public class Course implements Writable {
             return false;
         }
         Course course = (Course) o;
-        return subjectCode.equals(course.subjectCode)
-                && courseCode.equals(course.courseCode)
-                && sectionCode.equals(course.sectionCode);
+        return key.equals(course.key);
     }
 
     // EFFECTS: returns hash code of this course
     @Override
     public int hashCode() {
-        return Objects.hash(subjectCode, courseCode, sectionCode);
+        return key.hashCode();
     }
 
     // EFFECTS: returns this course as a JSON object
     @Override
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        json.put("subjectCode", subjectCode);
-        json.put("courseCode", courseCode);
-        json.put("sectionCode", sectionCode);
+        json.put("subjectCode", key.getSubjectCode());
+        json.put("courseCode", key.getCourseCode());
+        json.put("sectionCode", key.getSectionCode());
         json.put("title", title);
         json.put("schedule", schedule.toJson());
         json.put("credits", credits);
@@ -0,0 +1,162 @@
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Represents the identity of a course section, given by its subject, course, and section codes;
+// the codes are dictionary-encoded as integers, so that comparing keys never touches the code strings,
+// and the hash is computed once per key. The dictionary keeps at most CODE_LIMIT codes; a code seen
+// after it is full is kept as given, without an id, and keys with such codes compare their strings
+public final class CourseKey implements Comparable<CourseKey> {
+
+    static final int CODE_LIMIT = 1 << 16;
+
+    // Dictionary shared by all keys, mapping each distinct code string to its canonical string and id
+    private static final ConcurrentHashMap<String, Code> CODES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NUM_CODES = new AtomicInteger();
+
+    private final String subjectCode;
+    private final String courseCode;
+    private final String sectionCode;
+    private final int subjectId;
+    private final long courseSectionIds;
+    private final boolean encoded;
+    private final int hash;
+
+    // Display strings, built on first use
+    private String subjectCourseCode;
+    private String codes;
+
+    // EFFECTS: constructs a key from the dictionary entries of its subject, course, and section codes
+    private CourseKey(Code subject, Code course, Code section) {
+        this.subjectCode = subject.text;
+        this.courseCode = course.text;
+        this.sectionCode = section.text;
+        this.subjectId = subject.id;
+        this.courseSectionIds = ((long) course.id << 32) | (section.id & 0xFFFFFFFFL);
+        this.encoded = subject.id >= 0 && course.id >= 0 && section.id >= 0;
+        long h = subjectCode.hashCode() * 0x9E3779B97F4A7C15L + courseCode.hashCode();
+        h = h * 0x9E3779B97F4A7C15L + sectionCode.hashCode();
+        h *= 0x9E3779B97F4A7C15L;
+        this.hash = (int) (h ^ (h >>> 32));
+    }
+
+    // EFFECTS: returns the key of the course section with the given subject, course, and section codes
+    public static CourseKey of(String subject, String course, String section) {
+        return new CourseKey(encode(subject), encode(course), encode(section));
+    }
+
+    // MODIFIES: CODES, NUM_CODES
+    // EFFECTS: returns the dictionary entry of code, adding one with a new id if code has not been seen
+    //          before and the dictionary is not full, or else returns an entry of code without an id
+    private static Code encode(String code) {
+        Code entry = CODES.get(code);
+        if (entry != null) {
+            return entry;
+        }
+        if (NUM_CODES.get() >= CODE_LIMIT) {
+            return new Code(code, -1);
+        }
+        return CODES.computeIfAbsent(code, c -> new Code(c, NUM_CODES.getAndIncrement()));
+    }
+
+    // EFFECTS: returns the number of codes in the dictionary
+    static int getNumCodes() {
+        return CODES.size();
+    }
+
+    // EFFECTS: returns the subject code of this key
+    public String getSubjectCode() {
+        return subjectCode;
+    }
+
+    // EFFECTS: returns the course code of this key
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    // EFFECTS: returns the section code of this key
+    public String getSectionCode() {
+        return sectionCode;
+    }
+
+    // EFFECTS: returns a string of subject code and course code in format
+    //          "<subjectCode> <courseCode>"; e.g., "CPSC 210"
+    public String getSubjectCourseCode() {
+        if (subjectCourseCode == null) {
+            subjectCourseCode = subjectCode + " " + courseCode;
+        }
+        return subjectCourseCode;
+    }
+
+    // EFFECTS: returns true if this key and key have the same subject and course codes
+    public boolean isSameCourse(CourseKey key) {
+        if (encoded && key.encoded) {
+            return subjectId == key.subjectId && (courseSectionIds >>> 32) == (key.courseSectionIds >>> 32);
+        }
+        return subjectCode.equals(key.subjectCode) && courseCode.equals(key.courseCode);
+    }
+
+    // EFFECTS: returns a string of codes in format "<subjectCode> <courseCode> <sectionCode>";
+    //          e.g., "CPSC 210 921"
+    @Override
+    public String toString() {
+        if (codes == null) {
+            codes = getSubjectCourseCode() + " " + sectionCode;
+        }
+        return codes;
+    }
+
+    // EFFECTS: returns true if o has the same subject, course, and section codes as this key
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CourseKey key = (CourseKey) o;
+        if (hash != key.hash) {
+            return false;
+        }
+        if (encoded && key.encoded) {
+            return subjectId == key.subjectId && courseSectionIds == key.courseSectionIds;
+        }
+        return subjectCode.equals(key.subjectCode) && courseCode.equals(key.courseCode)
+                && sectionCode.equals(key.sectionCode);
+    }
+
+    // EFFECTS: returns hash code of this key
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    // EFFECTS: compares this key with key by subject code, then course code, then section code
+    @Override
+    public int compareTo(CourseKey key) {
+        int result = subjectCode.compareTo(key.subjectCode);
+        if (result == 0) {
+            result = courseCode.compareTo(key.courseCode);
+        }
+        if (result == 0) {
+            result = sectionCode.compareTo(key.sectionCode);
+        }
+        return result;
+    }
+
+    // Represents a code string in the dictionary with its id, or -1 if it is not in the dictionary
+    private static final class Code {
+
+        private final String text;
+        private final int id;
+
+        // EFFECTS: constructs an entry of code string text with the given id
+        Code(String text, int id) {
+            this.text = text;
+            this.id = id;
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package model;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+// Represents a block of free time on a weekday, from a starting minute (inclusive) to an ending minute
+// (exclusive) of the day
+public class FreeBlock {
+
+    // Order of blocks from longest to shortest, then by weekday and starting minute
+    public static final Comparator<FreeBlock> LONGEST_FIRST = Comparator.comparingInt(FreeBlock::getLength)
+            .reversed().thenComparing(FreeBlock::getDay).thenComparingInt(FreeBlock::getStart);
+
+    private Weekday day;
+    private int start;
+    private int end;
+
+    // REQUIRES: 0 <= start < end <= Time.MINUTES_PER_DAY
+    // EFFECTS: constructs a free block on day from start to end, as minutes of day
+    public FreeBlock(Weekday day, int start, int end) {
+        this.day = day;
+        this.start = start;
+        this.end = end;
+    }
+
+    // EFFECTS: returns the weekday of this block
+    public Weekday getDay() {
+        return day;
+    }
+
+    // EFFECTS: returns the starting minute of day of this block
+    public int getStart() {
+        return start;
+    }
+
+    // EFFECTS: returns the ending minute of day of this block
+    public int getEnd() {
+        return end;
+    }
+
+    // EFFECTS: returns the length of this block in minutes
+    public int getLength() {
+        return end - start;
+    }
+
+    // EFFECTS: returns a string of block in format "<day> HH:MM - HH:MM"; e.g., "TUESDAY 13:00 - 14:30"
+    @Override
+    public String toString() {
+        return day + " " + toTimeString(start) + " - " + toTimeString(end);
+    }
+
+    // EFFECTS: returns a string of minute of day in format "HH:MM"
+    private static String toTimeString(int minute) {
+        return String.format("%02d:%02d", minute / 60, minute % 60);
+    }
+
+    // EFFECTS: returns true if o is a block on the same day with the same starting and ending minutes
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FreeBlock block = (FreeBlock) o;
+        return day == block.day && start == block.start && end == block.end;
+    }
+
+    // EFFECTS: returns hash code of this block
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, start, end);
+    }
+
+}
@@ -0,0 +1,49 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Represents the common availability of a group of worklists, e.g. the students of a study group or
+// a course roster: the busy masks of all worklists are combined once, in parallel, so that the free
+// blocks common to every member are found by scanning a single mask
+public class GroupAvailability {
+
+    private int numMembers;
+    private WeekMask busyMask;
+
+    // EFFECTS: constructs the availability of the group of worklists, combining their busy masks
+    //          in parallel
+    public GroupAvailability(Collection<Worklist> worklists) {
+        this.numMembers = worklists.size();
+        this.busyMask = worklists.parallelStream()
+                .collect(WeekMask::new, (mask, wl) -> mask.or(wl.getBusyMask()), WeekMask::or);
+    }
+
+    // EFFECTS: returns the number of worklists in the group
+    public int getNumMembers() {
+        return numMembers;
+    }
+
+    // EFFECTS: returns a copy of the times of the week when any member of the group is busy
+    public WeekMask getBusyMask() {
+        return new WeekMask(busyMask);
+    }
+
+    // REQUIRES: 0 <= from <= to <= Time.MINUTES_PER_DAY
+    // EFFECTS: returns the blocks between from and to, as minutes of day, of at least minLength minutes
+    //          when every member of the group is free, from longest to shortest, then by weekday and time
+    public List<FreeBlock> getFreeBlocks(int from, int to, int minLength) {
+        List<FreeBlock> blocks = new ArrayList<>();
+        for (Weekday day : Weekday.values()) {
+            for (FreeBlock b : busyMask.getFreeBlocks(day, from, to)) {
+                if (b.getLength() >= minLength) {
+                    blocks.add(b);
+                }
+            }
+        }
+        blocks.sort(FreeBlock.LONGEST_FIRST);
+        return blocks;
+    }
+
+}
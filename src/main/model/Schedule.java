@@ -4,7 +4,6 @@ import exception.IllegalDaysException;
 import org.json.JSONObject;
 import persistence.Writable;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 // Represents a schedule of a university course with a
@@ -19,19 +18,82 @@ public class Schedule implements Writable {
     // Strings of abbreviations for weekdays
     private static final String[] STR_WEEKDAY_ABBR = {"Mon", "Tue", "Wed", "Thu", "Fri"};
 
-    private boolean[] days;
     private Time startTime;
     private Time endTime;
 
+    // Days of meeting, as a bitmask where bit i is set if there is a meeting on the i-th weekday, and
+    // meetings run from startMinute to endMinute; the days are kept only in this form, so that a schedule,
+    // which may be shared through SchedulePool, never exposes mutable state
+    private int dayMask;
+    private int startMinute;
+    private int endMinute;
+
+    // Id of the meeting pattern of this schedule in SchedulePool, or -1 if it is not pooled
+    private int patternId;
+
     // EFFECTS: constructs a new schedule with days of meeting, start time, and end time;
     //          throws IllegalDaysException if days has a length other than 5
     public Schedule(boolean[] days, Time start, Time end) throws IllegalDaysException {
         if (days.length != 5) {
             throw new IllegalDaysException();
         }
-        this.days = days;
         this.startTime = start;
         this.endTime = end;
+        this.dayMask = packDays(days);
+        this.startMinute = start.getMinuteOfDay();
+        this.endMinute = end.getMinuteOfDay();
+        this.patternId = -1;
+    }
+
+    // REQUIRES: 0 <= dayMask < 32
+    // EFFECTS: constructs a new schedule meeting on the days of dayMask from start to end,
+    //          with the given pattern id; !!! ONLY used by SchedulePool
+    Schedule(int dayMask, Time start, Time end, int patternId) {
+        this.startTime = start;
+        this.endTime = end;
+        this.dayMask = dayMask;
+        this.startMinute = start.getMinuteOfDay();
+        this.endMinute = end.getMinuteOfDay();
+        this.patternId = patternId;
+    }
+
+    // EFFECTS: returns the shared schedule with days of meeting, start time, and end time;
+    //          throws IllegalDaysException if days has a length other than 5
+    public static Schedule of(boolean[] days, Time start, Time end) throws IllegalDaysException {
+        if (days.length != 5) {
+            throw new IllegalDaysException();
+        }
+        return SchedulePool.intern(packDays(days), start, end);
+    }
+
+    // EFFECTS: returns the shared schedule meeting on the days of dayMask (bit 0 for Monday),
+    //          from start to end;
+    //          throws IllegalDaysException if dayMask is not between 0 and 31
+    public static Schedule of(int dayMask, Time start, Time end) throws IllegalDaysException {
+        if (dayMask < 0 || dayMask >= 1 << 5) {
+            throw new IllegalDaysException();
+        }
+        return SchedulePool.intern(dayMask, start, end);
+    }
+
+    // EFFECTS: returns days packed into a bitmask, where bit i is set if days[i] is true
+    private static int packDays(boolean[] days) {
+        int mask = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (days[i]) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    // EFFECTS: returns an array of 5 days, where days[i] is true if bit i of dayMask is set
+    private static boolean[] unpackDays(int dayMask) {
+        boolean[] days = new boolean[5];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = (dayMask & (1 << i)) != 0;
+        }
+        return days;
     }
 
     // EFFECTS: parses string s as a list of boolean representing meeting days;
@@ -54,9 +116,9 @@ public class Schedule implements Writable {
         return tempDays;
     }
 
-    // EFFECTS: returns meeting days of this schedule
+    // EFFECTS: returns a new array of meeting days of this schedule
     public boolean[] getDays() {
-        return days;
+        return unpackDays(dayMask);
     }
 
     // EFFECTS: returns starting time of this schedule
@@ -69,32 +131,45 @@ public class Schedule implements Writable {
         return endTime;
     }
 
-    // EFFECTS: returns true if this schedule overlaps s, false otherwise
+    // EFFECTS: returns meeting days of this schedule as a bitmask, where bit i is set
+    //          if there is a meeting on the i-th weekday (bit 0 for Monday)
+    public int getDayMask() {
+        return dayMask;
+    }
+
+    // EFFECTS: returns starting time of this schedule in minutes from 00:00
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    // EFFECTS: returns ending time of this schedule in minutes from 00:00
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    // EFFECTS: returns the id of the meeting pattern of this schedule in SchedulePool,
+    //          or -1 if this schedule was not obtained from Schedule.of
+    public int getPatternId() {
+        return patternId;
+    }
+
+    // EFFECTS: returns true if this schedule overlaps s, false otherwise; if both schedules are pooled
+    //          patterns with rows in the overlap matrix of SchedulePool, the result is looked up there
     public boolean isOverlapping(Schedule s) {
-        for (int i = 0; i < days.length; i++) {
-            if (days[i] && s.getDays()[i]) {
-                if (!startTime.laterThan(s.getEndTime()) && !s.getStartTime().laterThan(endTime)) {
-                    return true;
-                }
-            }
+        if (SchedulePool.isMemoized(patternId) && SchedulePool.isMemoized(s.patternId)) {
+            return SchedulePool.isOverlapping(patternId, s.patternId);
         }
-        return false;
+        return isOverlappingTimes(s);
+    }
+
+    // EFFECTS: returns true if the meeting days and times of this schedule overlap those of s, false otherwise
+    boolean isOverlappingTimes(Schedule s) {
+        return (dayMask & s.dayMask) != 0 && startMinute < s.endMinute && s.startMinute < endMinute;
     }
 
     // EFFECTS: returns true if this schedule has meeting on the given weekday, false otherwise
     public boolean hasMeeting(Weekday day) {
-        switch (day) {
-            case MONDAY:
-                return days[0];
-            case TUESDAY:
-                return days[1];
-            case WEDNESDAY:
-                return days[2];
-            case THURSDAY:
-                return days[3];
-            default:
-                return days[4];
-        }
+        return (dayMask & (1 << day.ordinal())) != 0;
     }
 
     // EFFECTS: returns a string of schedule in format "<days>\tHH:MM - HH:MM";
@@ -107,8 +182,8 @@ public class Schedule implements Writable {
     // EFFECTS: returns a string of days when there are meetings
     private String getMeetingDaysString() {
         String str = "";
-        for (int i = 0; i < days.length; i++) {
-            if (days[i]) {
+        for (int i = 0; i < STR_WEEKDAY_ABBR.length; i++) {
+            if ((dayMask & (1 << i)) != 0) {
                 str = str.concat(STR_WEEKDAY_ABBR[i] + " ");
             }
         }
@@ -131,7 +206,7 @@ public class Schedule implements Writable {
             return false;
         }
         Schedule schedule = (Schedule) o;
-        return Arrays.equals(days, schedule.days)
+        return dayMask == schedule.dayMask
                 && startTime.equals(schedule.startTime)
                 && endTime.equals(schedule.endTime);
     }
@@ -140,7 +215,7 @@ public class Schedule implements Writable {
     @Override
     public int hashCode() {
         int result = Objects.hash(startTime, endTime);
-        result = 31 * result + Arrays.hashCode(days);
+        result = 31 * result + dayMask;
         return result;
     }
 
@@ -148,7 +223,7 @@ public class Schedule implements Writable {
     @Override
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        json.put("days", days);
+        json.put("days", unpackDays(dayMask));
         json.put("startHour", startTime.getHour());
         json.put("startMinute", startTime.getMinute());
         json.put("endHour", endTime.getHour());
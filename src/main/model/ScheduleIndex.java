@@ -0,0 +1,108 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Represents an index of course meetings for each weekday, sorted by starting time, so that
+// courses conflicting with a given schedule are found in logarithmic time;
+// the indexed courses must not overlap one another (as in a worklist)
+public class ScheduleIndex {
+
+    // Bit offsets of the starting and ending minutes in an index key; the lowest bits
+    // hold a sequence number which keeps keys unique among courses with the same times
+    private static final int START_SHIFT = 42;
+    private static final int END_SHIFT = 31;
+
+    private List<NavigableMap<Long, Course>> meetingsByDay;
+    private List<Course> reversedCourses;
+    private Map<CourseKey, Long> keys;
+    private long sequence;
+
+    // EFFECTS: constructs an empty schedule index
+    public ScheduleIndex() {
+        meetingsByDay = new ArrayList<>();
+        for (int i = 0; i < Weekday.values().length; i++) {
+            meetingsByDay.add(new TreeMap<>());
+        }
+        reversedCourses = new ArrayList<>();
+        keys = new HashMap<>();
+        sequence = 0;
+    }
+
+    // REQUIRES: course does not overlap any indexed course, and is not already indexed
+    // MODIFIES: this
+    // EFFECTS: adds course to this index
+    public void add(Course course) {
+        Schedule s = course.getSchedule();
+        if (s.getEndMinute() < s.getStartMinute()) {
+            reversedCourses.add(course);
+            keys.put(course.getKey(), -1L);
+            return;
+        }
+        long key = ((long) s.getStartMinute() << START_SHIFT) | ((long) s.getEndMinute() << END_SHIFT) | sequence++;
+        keys.put(course.getKey(), key);
+        for (int day = 0; day < meetingsByDay.size(); day++) {
+            if ((s.getDayMask() & (1 << day)) != 0) {
+                meetingsByDay.get(day).put(key, course);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes course from this index; does nothing if course is not indexed
+    public void remove(Course course) {
+        Long key = keys.remove(course.getKey());
+        if (key == null) {
+            return;
+        }
+        if (key < 0) {
+            reversedCourses.remove(course);
+            return;
+        }
+        for (NavigableMap<Long, Course> meetings : meetingsByDay) {
+            meetings.remove(key);
+        }
+    }
+
+    // EFFECTS: returns the indexed courses whose schedules overlap schedule, grouped by the first
+    //          weekday they share with schedule, latest first; returns an empty list if there are none
+    public List<Course> getConflicts(Schedule schedule) {
+        List<Course> conflicts = new ArrayList<>();
+        for (int day = 0; day < meetingsByDay.size(); day++) {
+            if ((schedule.getDayMask() & (1 << day)) != 0) {
+                addConflictsOnDay(day, schedule, conflicts);
+            }
+        }
+        for (Course c : reversedCourses) {
+            if (c.getSchedule().isOverlapping(schedule)) {
+                conflicts.add(c);
+            }
+        }
+        return conflicts;
+    }
+
+    // MODIFIES: conflicts
+    // EFFECTS: adds to conflicts the courses meeting on day that overlap schedule, unless they
+    //          were already found on an earlier weekday; since indexed meetings do not overlap,
+    //          their ending times increase with their starting times, so the search walks back
+    //          from the last meeting starting before schedule ends and stops at the first one
+    //          that ends before schedule starts
+    private void addConflictsOnDay(int day, Schedule schedule, List<Course> conflicts) {
+        long bound = (long) schedule.getEndMinute() << START_SHIFT;
+        for (Course c : meetingsByDay.get(day).headMap(bound, false).descendingMap().values()) {
+            Schedule s = c.getSchedule();
+            if (s.getEndMinute() <= schedule.getStartMinute()) {
+                break;
+            }
+            int commonDays = s.getDayMask() & schedule.getDayMask();
+            if (Integer.numberOfTrailingZeros(commonDays) == day && s.isOverlapping(schedule)) {
+                conflicts.add(c);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Represents the pool of shared schedules, one for each distinct pattern of meeting days,
+// starting time, and ending time; each pattern gets a small integer id in order of first use,
+// and whether two patterns overlap is memoized in a bit matrix when a pattern is added, which
+// Schedule.isOverlapping then looks up
+public final class SchedulePool {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Patterns with ids below this limit get a row of the overlap matrix, so that the matrix takes at
+    // most MATRIX_LIMIT^2 / 2 bits (1 MB); later patterns are checked from their times
+    static final int MATRIX_LIMIT = 4096;
+
+    private static final Map<Integer, Schedule> SCHEDULES_BY_CODE = new HashMap<>();
+
+    // Pooled schedules indexed by pattern id; row i of overlapRows has one bit for each
+    // pattern id j <= i, which is set if patterns i and j overlap
+    private static volatile Schedule[] schedules = new Schedule[INITIAL_CAPACITY];
+    private static volatile long[][] overlapRows = new long[INITIAL_CAPACITY][];
+    private static volatile int size = 0;
+
+    // EFFECTS: prevents instantiation; all operations of the pool are static
+    private SchedulePool() {
+    }
+
+    // REQUIRES: 0 <= dayMask < 32
+    // MODIFIES: this
+    // EFFECTS: returns the pooled schedule meeting on dayMask from start to end,
+    //          adding it to the pool if this pattern has not been seen before
+    static synchronized Schedule intern(int dayMask, Time start, Time end) {
+        int code = dayMask | (start.getMinuteOfDay() << 5) | (end.getMinuteOfDay() << 16);
+        Schedule schedule = SCHEDULES_BY_CODE.get(code);
+        if (schedule == null) {
+            schedule = new Schedule(dayMask, start, end, size);
+            SCHEDULES_BY_CODE.put(code, schedule);
+            addPattern(schedule);
+        }
+        return schedule;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stores schedule under its pattern id, with its row of the overlap matrix if its id is
+    //          below MATRIX_LIMIT
+    private static void addPattern(Schedule schedule) {
+        int id = schedule.getPatternId();
+        long[] row = null;
+        if (id < MATRIX_LIMIT) {
+            row = new long[id / 64 + 1];
+            for (int j = 0; j <= id; j++) {
+                if (schedule.isOverlappingTimes(j == id ? schedule : schedules[j])) {
+                    row[j >>> 6] |= 1L << j;
+                }
+            }
+        }
+        if (id == schedules.length) {
+            schedules = Arrays.copyOf(schedules, id * 2);
+            overlapRows = Arrays.copyOf(overlapRows, id * 2);
+        }
+        schedules[id] = schedule;
+        overlapRows[id] = row;
+        size = id + 1;
+    }
+
+    // EFFECTS: returns the number of patterns in the pool
+    public static int size() {
+        return size;
+    }
+
+    // REQUIRES: 0 <= patternId < size()
+    // EFFECTS: returns the pooled schedule with the given pattern id
+    public static Schedule get(int patternId) {
+        return schedules[patternId];
+    }
+
+    // EFFECTS: returns true if patternId is the id of a pattern in the pool with a row of the overlap matrix
+    static boolean isMemoized(int patternId) {
+        return patternId >= 0 && patternId < Math.min(size, MATRIX_LIMIT);
+    }
+
+    // REQUIRES: 0 <= patternId1, patternId2 < size()
+    // EFFECTS: returns true if the schedules with the given pattern ids overlap, false otherwise;
+    //          looks the result up in the overlap matrix if both ids are below MATRIX_LIMIT
+    public static boolean isOverlapping(int patternId1, int patternId2) {
+        int i = Math.max(patternId1, patternId2);
+        int j = Math.min(patternId1, patternId2);
+        if (i >= MATRIX_LIMIT) {
+            return schedules[i].isOverlappingTimes(schedules[j]);
+        }
+        return (overlapRows[i][j >>> 6] & (1L << j)) != 0;
+    }
+
+}
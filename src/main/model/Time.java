@@ -4,25 +4,65 @@ import exception.IllegalHourException;
 import exception.IllegalMinuteException;
 import exception.IllegalTimeException;
 
-import java.util.Objects;
-
-// Represents a 24-hour time with hour and minute
+// Represents a 24-hour time with hour and minute, stored as the number of minutes from 00:00;
+// valid times range from 00:00 to 24:00, and Time.of returns shared instances of them
 public class Time {
 
-    private int hour;
-    private int minute;
+    // Number of minutes in a day; 24:00 is the latest valid time
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    // Shared instances of all valid times, indexed by minute of day
+    private static final Time[] TIMES = new Time[MINUTES_PER_DAY + 1];
+
+    static {
+        for (int i = 0; i < TIMES.length; i++) {
+            TIMES[i] = new Time(i);
+        }
+    }
+
+    private final int minuteOfDay;
 
-    // EFFECTS: constructs a new time with hours and minutes;
-    //          throws IllegalHourException if hour < 0 or hour > 24;
-    //          throws IllegalMinuteException if minute < 0 or minute > 60
+    // EFFECTS: constructs a new time with hours and minutes; prefer Time.of, which does not allocate;
+    //          throws IllegalHourException if hour < 0 or hour > 24, or if hour is 24 and minute is not 0;
+    //          throws IllegalMinuteException if minute < 0 or minute > 59
     public Time(int hour, int minute) throws IllegalHourException, IllegalMinuteException {
+        this(toMinuteOfDay(hour, minute));
+    }
+
+    // REQUIRES: 0 <= minuteOfDay <= MINUTES_PER_DAY
+    // EFFECTS: constructs a new time with the given number of minutes from 00:00
+    private Time(int minuteOfDay) {
+        this.minuteOfDay = minuteOfDay;
+    }
+
+    // EFFECTS: returns the shared time with hours and minutes;
+    //          throws IllegalHourException if hour < 0 or hour > 24, or if hour is 24 and minute is not 0;
+    //          throws IllegalMinuteException if minute < 0 or minute > 59
+    public static Time of(int hour, int minute) throws IllegalHourException, IllegalMinuteException {
+        return TIMES[toMinuteOfDay(hour, minute)];
+    }
+
+    // EFFECTS: returns the shared time with the given number of minutes from 00:00;
+    //          throws IllegalTimeException if minuteOfDay < 0 or minuteOfDay > MINUTES_PER_DAY
+    public static Time ofMinuteOfDay(int minuteOfDay) throws IllegalTimeException {
+        if (minuteOfDay < 0 || minuteOfDay > MINUTES_PER_DAY) {
+            throw new IllegalTimeException();
+        }
+        return TIMES[minuteOfDay];
+    }
+
+    // EFFECTS: returns the number of minutes from 00:00 to hour:minute;
+    //          throws IllegalHourException if hour < 0 or hour > 24, or if hour is 24 and minute is not 0;
+    //          throws IllegalMinuteException if minute < 0 or minute > 59
+    private static int toMinuteOfDay(int hour, int minute) throws IllegalHourException, IllegalMinuteException {
         if (hour < 0 || hour > 24) {
             throw new IllegalHourException();
-        } else if (minute < 0 || minute > 60) {
+        } else if (minute < 0 || minute > 59) {
             throw new IllegalMinuteException();
+        } else if (hour == 24 && minute != 0) {
+            throw new IllegalHourException();
         }
-        this.hour = hour;
-        this.minute = minute;
+        return hour * 60 + minute;
     }
 
     // EFFECTS: parses string s as a time and returns hour of the time;
@@ -48,7 +88,7 @@ public class Time {
 
     // EFFECTS: parses string s as a time and returns minute of the time;
     //          throws IllegalTimeException if s is not in format of "HH:MM", where HH and MM are integers, or
-    //                                      if MM is not between 0 and 60
+    //                                      if MM is not between 0 and 59
     public static int parseMinute(String s) throws IllegalTimeException {
         int i = s.indexOf(":");
         int minute;
@@ -60,7 +100,7 @@ public class Time {
             } catch (NumberFormatException e) {
                 throw new IllegalTimeException();
             }
-            if (minute < 0 || minute > 60) {
+            if (minute < 0 || minute > 59) {
                 throw new IllegalMinuteException();
             }
         }
@@ -69,26 +109,28 @@ public class Time {
 
     // EFFECTS: returns hour of this time
     public int getHour() {
-        return hour;
+        return minuteOfDay / 60;
     }
 
     // EFFECTS: returns minute of this time
     public int getMinute() {
-        return minute;
+        return minuteOfDay % 60;
+    }
+
+    // EFFECTS: returns the number of minutes elapsed from 00:00 to this time
+    public int getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     // EFFECTS: returns true if this time comes later than or equals t, false otherwise
     public boolean laterThan(Time t) {
-        if (hour == t.getHour()) {
-            return minute >= t.getMinute();
-        }
-        return hour >= t.getHour();
+        return minuteOfDay >= t.minuteOfDay;
     }
 
     // EFFECTS: returns a string of time in format "HH:MM"
     @Override
     public String toString() {
-        return String.format("%02d", hour) + ":" + String.format("%02d", minute);
+        return String.format("%02d", getHour()) + ":" + String.format("%02d", getMinute());
     }
 
     // EFFECTS: returns true if o has the same hour and minute as this time, false otherwise
@@ -101,13 +143,13 @@ public class Time {
             return false;
         }
         Time time = (Time) o;
-        return hour == time.hour && minute == time.minute;
+        return minuteOfDay == time.minuteOfDay;
     }
 
     // EFFECTS: returns hash code of this time
     @Override
     public int hashCode() {
-        return Objects.hash(hour, minute);
+        return minuteOfDay;
     }
 
 }
@@ -0,0 +1,211 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Represents the busy times of a week as a bitmap of minutes: for each weekday, bit m of the day is set
+// if minute m (from m to m + 1) is busy, so that whether an interval is free is a few word operations;
+// a schedule that is empty or ends before it starts covers no minute, so such schedules are kept
+// as they are and checked exactly with Schedule.isOverlapping
+public class WeekMask {
+
+    // Number of longs holding the minutes of one day
+    public static final int WORDS_PER_DAY = (Time.MINUTES_PER_DAY + 63) / 64;
+
+    private long[] bits;
+    private List<Schedule> degenerateSchedules;
+
+    // EFFECTS: constructs a week mask with no busy time
+    public WeekMask() {
+        this.bits = new long[Weekday.values().length * WORDS_PER_DAY];
+        this.degenerateSchedules = new ArrayList<>();
+    }
+
+    // EFFECTS: constructs a copy of mask
+    public WeekMask(WeekMask mask) {
+        this.bits = mask.bits.clone();
+        this.degenerateSchedules = new ArrayList<>(mask.degenerateSchedules);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the meetings of schedule as busy
+    public void add(Schedule schedule) {
+        if (schedule.getStartMinute() >= schedule.getEndMinute()) {
+            degenerateSchedules.add(schedule);
+            return;
+        }
+        for (int day = 0; day < Weekday.values().length; day++) {
+            if ((schedule.getDayMask() & (1 << day)) != 0) {
+                setRange(day * WORDS_PER_DAY, schedule.getStartMinute(), schedule.getEndMinute(), true);
+            }
+        }
+    }
+
+    // REQUIRES: schedule was added to this mask, and does not overlap any other schedule added to it
+    // MODIFIES: this
+    // EFFECTS: marks the meetings of schedule as free
+    public void remove(Schedule schedule) {
+        if (schedule.getStartMinute() >= schedule.getEndMinute()) {
+            degenerateSchedules.remove(schedule);
+            return;
+        }
+        for (int day = 0; day < Weekday.values().length; day++) {
+            if ((schedule.getDayMask() & (1 << day)) != 0) {
+                setRange(day * WORDS_PER_DAY, schedule.getStartMinute(), schedule.getEndMinute(), false);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the busy times of mask as busy in this mask
+    public void or(WeekMask mask) {
+        for (int w = 0; w < bits.length; w++) {
+            bits[w] |= mask.bits[w];
+        }
+        degenerateSchedules.addAll(mask.degenerateSchedules);
+    }
+
+    // REQUIRES: 0 <= start < end <= Time.MINUTES_PER_DAY
+    // EFFECTS: returns true if a schedule meeting on the days of dayMask from start to end, as minutes of day,
+    //          would not overlap any busy time of this mask
+    public boolean isFree(int dayMask, int start, int end) {
+        for (int day = 0; day < Weekday.values().length; day++) {
+            if ((dayMask & (1 << day)) != 0 && !isClear(day * WORDS_PER_DAY, start, end)) {
+                return false;
+            }
+        }
+        for (Schedule s : degenerateSchedules) {
+            if ((s.getDayMask() & dayMask) != 0 && start < s.getEndMinute() && s.getStartMinute() < end) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // REQUIRES: 0 <= day < 5, 0 <= minute < Time.MINUTES_PER_DAY
+    // EFFECTS: returns true if minute of day is busy in the bitmap, not counting the degenerate schedules
+    public boolean isBusy(int day, int minute) {
+        return (bits[day * WORDS_PER_DAY + (minute >>> 6)] & (1L << minute)) != 0;
+    }
+
+    // EFFECTS: returns true if this mask has no busy minute and no degenerate schedule
+    public boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return degenerateSchedules.isEmpty();
+    }
+
+    // REQUIRES: 0 <= from <= to <= Time.MINUTES_PER_DAY
+    // EFFECTS: returns the longest free blocks on day between from and to, in order of time; a schedule that
+    //          ends before it starts is taken as busy from its ending to its starting time, and an empty one
+    //          splits the blocks around it, so that every block is free as by isFree
+    public List<FreeBlock> getFreeBlocks(Weekday day, int from, int to) {
+        long[] words = Arrays.copyOfRange(bits, day.ordinal() * WORDS_PER_DAY, (day.ordinal() + 1) * WORDS_PER_DAY);
+        List<Integer> cuts = addDegenerateSchedules(day, words);
+        List<FreeBlock> blocks = new ArrayList<>();
+        int start = nextMinute(words, from, to, false);
+        while (start < to) {
+            int end = nextMinute(words, start, to, true);
+            for (int cut : cuts) {
+                if (start < cut && cut < end) {
+                    blocks.add(new FreeBlock(day, start, cut));
+                    start = cut;
+                }
+            }
+            blocks.add(new FreeBlock(day, start, end));
+            start = nextMinute(words, end, to, false);
+        }
+        return blocks;
+    }
+
+    // MODIFIES: words
+    // EFFECTS: marks in words, the bitmap of day, the minutes from the ending to the starting time of each
+    //          schedule on day that ends before it starts, and returns the sorted times of the empty ones
+    private List<Integer> addDegenerateSchedules(Weekday day, long[] words) {
+        List<Integer> cuts = new ArrayList<>();
+        for (Schedule s : degenerateSchedules) {
+            if (s.hasMeeting(day) && s.getEndMinute() < s.getStartMinute()) {
+                setRange(words, 0, s.getEndMinute(), s.getStartMinute(), true);
+            } else if (s.hasMeeting(day)) {
+                cuts.add(s.getStartMinute());
+            }
+        }
+        Collections.sort(cuts);
+        return cuts;
+    }
+
+    // EFFECTS: returns the first minute from from to to whose bit in words is set if busy is true, or clear
+    //          otherwise; returns to if there is none
+    private static int nextMinute(long[] words, int from, int to, boolean busy) {
+        for (int w = from >>> 6; w << 6 < to; w++) {
+            long word = (busy ? words[w] : ~words[w]) & rangeOfWord(w, from, to);
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return to;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets (if busy is true) or clears the bits of minutes from to to of the day starting at word base
+    private void setRange(int base, int from, int to, boolean busy) {
+        setRange(bits, base, from, to, busy);
+    }
+
+    // MODIFIES: words
+    // EFFECTS: sets (if busy is true) or clears the bits of minutes from to to of the day starting at word base
+    //          of words
+    private static void setRange(long[] words, int base, int from, int to, boolean busy) {
+        for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+            long range = rangeOfWord(w, from, to);
+            words[base + w] = busy ? words[base + w] | range : words[base + w] & ~range;
+        }
+    }
+
+    // EFFECTS: returns true if no bit of the minutes from to to is set in the day starting at word base
+    private boolean isClear(int base, int from, int to) {
+        for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+            if ((bits[base + w] & rangeOfWord(w, from, to)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // EFFECTS: returns the bits of word w (of minutes 64w to 64w + 63) for the minutes from from to to
+    private static long rangeOfWord(int w, int from, int to) {
+        long range = -1L;
+        if (from > w << 6) {
+            range &= -1L << (from & 63);
+        }
+        if (to < (w + 1) << 6) {
+            range &= -1L >>> (64 - (to & 63));
+        }
+        return range;
+    }
+
+    // EFFECTS: returns true if o has the same busy minutes and degenerate schedules as this mask
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WeekMask mask = (WeekMask) o;
+        return Arrays.equals(bits, mask.bits) && degenerateSchedules.equals(mask.degenerateSchedules);
+    }
+
+    // EFFECTS: returns hash code of this mask
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(bits) + degenerateSchedules.hashCode();
+    }
+
+}
@@ -1,5 +1,6 @@
 package model;
 
+import exception.BatchAddException;
 import exception.CourseAlreadyExistsException;
 import exception.CourseConflictsException;
 import exception.CourseNotFoundException;
@@ -8,8 +9,13 @@ import org.json.JSONObject;
 import persistence.Writable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 // Represents a worklist to manage courses
@@ -19,12 +25,39 @@ public class Worklist implements Writable {
     public static final int COURSE_LIMIT = 5;
 
     private String name;
+
+    // Courses in the order they were added, by their keys, so that lookups and deletions take O(1) time
+    private Map<CourseKey, Course> courseIndex;
+    private ScheduleIndex scheduleIndex;
+    private WeekMask busyMask;
+
+    // Listeners notified after each change to courses or to their required or starred states
+    private List<WorklistListener> listeners;
+
+    // Statistics of courses, kept up to date by the methods that modify courses
+    private int totalCredits;
+    private int numRequiredCourses;
+    private Map<String, Integer> numCoursesBySubject;
+    private Set<String> subjectCodes;
+
+    // Read-only views of courses and their codes, built on first read;
+    // null if a change to courses or to a starred state has invalidated them
     private List<Course> courses;
+    private List<Course> starredCourses;
+    private List<Course> unstarredCourses;
+    private Set<String> allCodes;
+    private Set<String> starredCodes;
+    private Set<String> unstarredCodes;
 
     // EFFECTS: constructs a new worklist with name and an empty course list
     public Worklist(String name) {
         this.name = name;
-        this.courses = new ArrayList<>();
+        this.courseIndex = new LinkedHashMap<>();
+        this.scheduleIndex = new ScheduleIndex();
+        this.busyMask = new WeekMask();
+        this.listeners = new ArrayList<>();
+        this.numCoursesBySubject = new HashMap<>();
+        this.subjectCodes = Collections.unmodifiableSet(numCoursesBySubject.keySet());
     }
 
     // EFFECTS: returns name of this worklist
@@ -32,167 +65,300 @@ public class Worklist implements Writable {
         return name;
     }
 
-    // EFFECTS: returns list of courses of this worklist
+    // EFFECTS: returns an unmodifiable list of courses of this worklist, in the order they were added
     public List<Course> getCourses() {
+        if (courses == null) {
+            courses = Collections.unmodifiableList(new ArrayList<>(courseIndex.values()));
+        }
         return courses;
     }
 
     // MODIFIES: this
     // EFFECTS: adds course to courses;
     //          throws CourseAlreadyExistsException if course is already existed in courses;
-    //          throws CourseConflictsException if the schedule of course overlaps with any existing courses
+    //          throws CourseConflictsException with the conflicting courses if the schedule of course
+    //          overlaps with any existing courses
     public void addCourse(Course course) throws CourseAlreadyExistsException, CourseConflictsException {
-        if (courses.contains(course)) {
+        if (courseIndex.containsKey(course.getKey())) {
             throw new CourseAlreadyExistsException();
-        } else {
-            for (Course c : courses) {
-                if (c.getSchedule().isOverlapping(course.getSchedule())) {
-                    throw new CourseConflictsException();
-                }
+        }
+        List<Course> conflicts = getConflictingCourses(course);
+        if (!conflicts.isEmpty()) {
+            throw new CourseConflictsException(conflicts);
+        }
+        insertCourse(course);
+        invalidateViews(true);
+        for (WorklistListener l : listeners) {
+            l.courseAdded(course);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds all courses of batch to courses, in batch order, if none of them is a duplicate or
+    //          conflicts with an existing course or another course of batch; otherwise, adds none of them
+    //          and throws BatchAddException reporting every duplicate and every conflict
+    public void addAll(Collection<Course> batch) throws BatchAddException {
+        List<Course> duplicates = new ArrayList<>();
+        List<Course> added = new ArrayList<>();
+        Set<CourseKey> batchKeys = new HashSet<>();
+        for (Course c : batch) {
+            if (courseIndex.containsKey(c.getKey()) || !batchKeys.add(c.getKey())) {
+                duplicates.add(c);
+            } else {
+                added.add(c);
+            }
+        }
+        Map<Course, List<Course>> conflicts = findBatchConflicts(added);
+        if (!duplicates.isEmpty() || !conflicts.isEmpty()) {
+            throw new BatchAddException(duplicates, conflicts);
+        }
+        for (Course c : added) {
+            insertCourse(c);
+        }
+        invalidateViews(true);
+        for (Course c : added) {
+            for (WorklistListener l : listeners) {
+                l.courseAdded(c);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds course to courses and to their indices and statistics
+    private void insertCourse(Course course) {
+        courseIndex.put(course.getKey(), course);
+        scheduleIndex.add(course);
+        busyMask.add(course.getSchedule());
+        updateStatistics(course, 1);
+    }
+
+    // EFFECTS: returns the courses of added mapped to the courses they conflict with, i.e., the existing
+    //          courses and the courses before them in added, found by one sweep over all their schedules
+    private Map<Course, List<Course>> findBatchConflicts(List<Course> added) {
+        List<Course> all = new ArrayList<>(courseIndex.values());
+        all.addAll(added);
+        List<Schedule> schedules = new ArrayList<>(all.size());
+        for (Course c : all) {
+            schedules.add(c.getSchedule());
+        }
+        List<List<Course>> conflicting = new ArrayList<>(Collections.nCopies(all.size(), null));
+        ConflictSweep.forEachConflict(schedules, (i, j) -> {
+            if (conflicting.get(j) == null) {
+                conflicting.set(j, new ArrayList<>());
+            }
+            conflicting.get(j).add(all.get(i));
+        });
+        Map<Course, List<Course>> conflicts = new LinkedHashMap<>();
+        for (int j = courseIndex.size(); j < all.size(); j++) {
+            if (conflicting.get(j) != null) {
+                conflicts.put(all.get(j), conflicting.get(j));
             }
         }
-        courses.add(course);
+        return conflicts;
+    }
+
+    // EFFECTS: returns the courses in courses whose schedules overlap the schedule of course;
+    //          returns an empty list if there are no such courses
+    public List<Course> getConflictingCourses(Course course) {
+        return scheduleIndex.getConflicts(course.getSchedule());
     }
 
     // MODIFIES: this
     // EFFECTS: removes course from courses;
     //          throws CourseNotFoundException if course is not in courses
     public void deleteCourse(Course course) throws CourseNotFoundException {
-        if (courses.isEmpty() || !courses.contains(course)) {
-            throw new CourseNotFoundException();
+        Course existing = findCourse(course);
+        courseIndex.remove(existing.getKey());
+        scheduleIndex.remove(existing);
+        busyMask.remove(existing.getSchedule());
+        updateStatistics(existing, -1);
+        invalidateViews(true);
+        for (WorklistListener l : listeners) {
+            l.courseDeleted(existing);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds listener to be notified of each later change to courses
+    public void addListener(WorklistListener listener) {
+        listeners.add(listener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes listener, if present, so that it is no longer notified
+    public void removeListener(WorklistListener listener) {
+        listeners.remove(listener);
+    }
+
+    // EFFECTS: returns a copy of the busy times of the week, i.e., the meetings of all courses
+    public WeekMask getBusyMask() {
+        return new WeekMask(busyMask);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: updates statistics for course being added (sign = 1) or removed (sign = -1)
+    private void updateStatistics(Course course, int sign) {
+        totalCredits += sign * course.getCredits();
+        if (course.isRequired()) {
+            numRequiredCourses += sign;
+        }
+        int num = numCoursesBySubject.getOrDefault(course.getSubjectCode(), 0) + sign;
+        if (num == 0) {
+            numCoursesBySubject.remove(course.getSubjectCode());
+        } else {
+            numCoursesBySubject.put(course.getSubjectCode(), num);
         }
-        courses.remove(course);
     }
 
     // MODIFIES: this
     // EFFECTS: sets course to required or not;
     //          throws CourseNotFoundException if courses does not contain course
     public void setRequired(Course course, boolean required) throws CourseNotFoundException {
-        if (!courses.contains(course)) {
-            throw new CourseNotFoundException();
+        Course existing = findCourse(course);
+        if (existing.isRequired() != required) {
+            numRequiredCourses += required ? 1 : -1;
+            existing.setRequired(required);
+            for (WorklistListener l : listeners) {
+                l.requiredChanged(existing, required);
+            }
         }
-        courses.get(courses.indexOf(course)).setRequired(required);
     }
 
     // MODIFIES: this
     // EFFECTS: star course in courses;
     //          throws CourseNotFoundException if courses does not contain course;
     public void starCourse(Course course) throws CourseNotFoundException {
-        if (!courses.contains(course)) {
-            throw new CourseNotFoundException();
+        Course existing = findCourse(course);
+        if (existing.star()) {
+            invalidateViews(false);
+            for (WorklistListener l : listeners) {
+                l.courseStarred(existing);
+            }
         }
-        courses.get(courses.indexOf(course)).star();
     }
 
     // MODIFIES: this
     // EFFECTS: unstar course in courses;
     //          throws CourseNotFoundException if courses does not contain course;
     public void unstarCourse(Course course) throws CourseNotFoundException {
-        if (!courses.contains(course)) {
+        Course existing = findCourse(course);
+        if (existing.unstar()) {
+            invalidateViews(false);
+            for (WorklistListener l : listeners) {
+                l.courseUnstarred(existing);
+            }
+        }
+    }
+
+    // EFFECTS: returns the course in courses with the same codes as course;
+    //          throws CourseNotFoundException if courses does not contain course
+    private Course findCourse(Course course) throws CourseNotFoundException {
+        Course existing = courseIndex.get(course.getKey());
+        if (existing == null) {
             throw new CourseNotFoundException();
         }
-        courses.get(courses.indexOf(course)).unstar();
+        return existing;
     }
 
-    // EFFECTS: returns a list of starred courses in courses
+    // MODIFIES: this
+    // EFFECTS: discards the cached views of starred and unstarred courses, and also
+    //          the views of all courses and all codes if coursesChanged is true
+    private void invalidateViews(boolean coursesChanged) {
+        if (coursesChanged) {
+            courses = null;
+            allCodes = null;
+        }
+        starredCourses = null;
+        unstarredCourses = null;
+        starredCodes = null;
+        unstarredCodes = null;
+    }
+
+    // EFFECTS: returns an unmodifiable list of starred courses in courses
     public List<Course> getStarredCourses() {
-        List<Course> starredCourses = new ArrayList<>();
-        for (Course c : courses) {
-            if (c.isStarred()) {
-                starredCourses.add(c);
-            }
+        if (starredCourses == null) {
+            starredCourses = filterCourses(true);
         }
         return starredCourses;
     }
 
-    // EFFECTS: returns a list of unstarred courses in courses
+    // EFFECTS: returns an unmodifiable list of unstarred courses in courses
     public List<Course> getUnstarredCourses() {
-        List<Course> starredCourses = new ArrayList<>();
-        for (Course c : courses) {
-            if (!c.isStarred()) {
-                starredCourses.add(c);
+        if (unstarredCourses == null) {
+            unstarredCourses = filterCourses(false);
+        }
+        return unstarredCourses;
+    }
+
+    // EFFECTS: returns an unmodifiable list of courses in courses that are starred if starred
+    //          is true, or unstarred otherwise
+    private List<Course> filterCourses(boolean starred) {
+        List<Course> filtered = new ArrayList<>();
+        for (Course c : courseIndex.values()) {
+            if (c.isStarred() == starred) {
+                filtered.add(c);
             }
         }
-        return starredCourses;
+        return Collections.unmodifiableList(filtered);
     }
 
     // EFFECTS: returns the total credits of all courses in courses
     public int getTotalCredits() {
-        int credits = 0;
-        for (Course c : courses) {
-            credits += c.getCredits();
-        }
-        return credits;
+        return totalCredits;
     }
 
-    // EFFECTS: returns a set of all subject codes appeared in courses
+    // EFFECTS: returns an unmodifiable set of all subject codes appeared in courses
     public Set<String> getSubjectCodes() {
-        Set<String> codes = new HashSet<>();
-        for (Course c : courses) {
-            codes.add(c.getSubjectCode());
-        }
-        return codes;
+        return subjectCodes;
     }
 
-    // EFFECTS: returns a set of subject, course, and section codes of all courses
+    // EFFECTS: returns an unmodifiable set of subject, course, and section codes of all courses
     public Set<String> getAllCodes() {
-        Set<String> codes = new HashSet<>();
-        for (Course c : courses) {
-            codes.add(c.getSubjectCourseCode() + " " + c.getSectionCode());
+        if (allCodes == null) {
+            allCodes = toCodes(getCourses());
         }
-        return codes;
+        return allCodes;
     }
 
-    // EFFECTS: returns a set of subject, course, and section codes of starred courses
+    // EFFECTS: returns an unmodifiable set of subject, course, and section codes of starred courses
     public Set<String> getStarredCodes() {
-        Set<String> codes = new HashSet<>();
-        for (Course c : getStarredCourses()) {
-            codes.add(c.getSubjectCourseCode() + " " + c.getSectionCode());
+        if (starredCodes == null) {
+            starredCodes = toCodes(getStarredCourses());
         }
-        return codes;
+        return starredCodes;
     }
 
-    // EFFECTS: returns a set of subject, course, and section codes of unstarred courses
+    // EFFECTS: returns an unmodifiable set of subject, course, and section codes of unstarred courses
     public Set<String> getUnstarredCodes() {
+        if (unstarredCodes == null) {
+            unstarredCodes = toCodes(getUnstarredCourses());
+        }
+        return unstarredCodes;
+    }
+
+    // EFFECTS: returns an unmodifiable set of subject, course, and section codes of courses
+    private static Set<String> toCodes(List<Course> courses) {
         Set<String> codes = new HashSet<>();
-        for (Course c : getUnstarredCourses()) {
-            codes.add(c.getSubjectCourseCode() + " " + c.getSectionCode());
+        for (Course c : courses) {
+            codes.add(c.getKey().toString());
         }
-        return codes;
+        return Collections.unmodifiableSet(codes);
     }
 
     // EFFECTS: returns the number of courses with the given subject code;
     //          returns 0 if there are no courses with the given subject code
     public int getNumCoursesOfSubject(String subject) {
-        int num = 0;
-        for (Course c : courses) {
-            if (c.getSubjectCode().equals(subject)) {
-                num++;
-            }
-        }
-        return num;
+        return numCoursesBySubject.getOrDefault(subject, 0);
     }
 
     // EFFECTS: returns the number of required courses in courses
     public int getNumRequiredCourses() {
-        int num = 0;
-        for (Course c : courses) {
-            if (c.isRequired()) {
-                num++;
-            }
-        }
-        return num;
+        return numRequiredCourses;
     }
 
     // EFFECTS: returns the number of non-required courses in courses
     public int getNumOptionalCourses() {
-        int num = 0;
-        for (Course c : courses) {
-            if (!c.isRequired()) {
-                num++;
-            }
-        }
-        return num;
+        return courseIndex.size() - numRequiredCourses;
     }
 
     // EFFECTS: returns this worklist as a JSON object
@@ -207,7 +373,7 @@ public class Worklist implements Writable {
     // EFFECTS: returns courses in this worklist as a JSON array
     private JSONArray coursesToJson() {
         JSONArray jsonArray = new JSONArray();
-        for (Course c : courses) {
+        for (Course c : courseIndex.values()) {
             jsonArray.put(c.toJson());
         }
         return jsonArray;
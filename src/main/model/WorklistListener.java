@@ -0,0 +1,20 @@
+package model;
+
+// Represents a listener notified of each change a worklist makes to its courses, after the change is made
+public interface WorklistListener {
+
+    // EFFECTS: handles course having been added to the worklist
+    void courseAdded(Course course);
+
+    // EFFECTS: handles course having been deleted from the worklist
+    void courseDeleted(Course course);
+
+    // EFFECTS: handles course having been set to required or not
+    void requiredChanged(Course course, boolean required);
+
+    // EFFECTS: handles course having been starred
+    void courseStarred(Course course);
+
+    // EFFECTS: handles course having been unstarred
+    void courseUnstarred(Course course);
+}
@@ -0,0 +1,245 @@
+package model.catalog;
+
+import model.Course;
+import model.CourseKey;
+import model.WeekMask;
+import model.Weekday;
+import model.Worklist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+// Represents the catalog of all course sections offered in a term; the sections are kept sorted by
+// their codes, so that the sections of a subject or of a course are a contiguous range found by binary
+// search, and also sorted by starting time, overall and for each weekday, so that the sections starting
+// in a range of times are found the same way; every lookup returns a read-only view of a range in
+// O(log n) time, without copying. The meeting days, starting and ending minutes of the sections are
+// also kept in arrays, in code order, for scans that need not touch the Course objects
+public class CourseCatalog {
+
+    private String term;
+    private List<Course> sections;
+    private List<Course> sectionsByStart;
+    private int[] startsByStart;
+    private List<List<Course>> sectionsByDay;
+    private List<int[]> startsByDay;
+
+    private int[] dayMasks;
+    private int[] startMinutes;
+    private int[] endMinutes;
+
+    // REQUIRES: every course in sections has a schedule
+    // EFFECTS: constructs a catalog of term with sections; of sections with the same codes, only the first
+    //          is kept
+    public CourseCatalog(String term, Collection<Course> sections) {
+        this.term = term;
+        this.sections = Collections.unmodifiableList(Arrays.asList(sortByKey(sections)));
+        initSchedules();
+        Course[] byStart = sortByStart(-1);
+        this.sectionsByStart = Collections.unmodifiableList(Arrays.asList(byStart));
+        this.startsByStart = toStarts(byStart);
+        this.sectionsByDay = new ArrayList<>();
+        this.startsByDay = new ArrayList<>();
+        for (int day = 0; day < Weekday.values().length; day++) {
+            Course[] onDay = sortByStart(day);
+            sectionsByDay.add(Collections.unmodifiableList(Arrays.asList(onDay)));
+            startsByDay.add(toStarts(onDay));
+        }
+    }
+
+    // EFFECTS: returns the distinct sections of sections sorted by their codes
+    private static Course[] sortByKey(Collection<Course> sections) {
+        Course[] sorted = sections.toArray(new Course[0]);
+        Arrays.sort(sorted, (c1, c2) -> c1.getKey().compareTo(c2.getKey()));
+        int n = 0;
+        for (Course c : sorted) {
+            if (n == 0 || !sorted[n - 1].getKey().equals(c.getKey())) {
+                sorted[n++] = c;
+            }
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the meeting days, starting and ending minutes of sections into arrays
+    private void initSchedules() {
+        dayMasks = new int[sections.size()];
+        startMinutes = new int[sections.size()];
+        endMinutes = new int[sections.size()];
+        for (int i = 0; i < sections.size(); i++) {
+            dayMasks[i] = sections.get(i).getSchedule().getDayMask();
+            startMinutes[i] = sections.get(i).getSchedule().getStartMinute();
+            endMinutes[i] = sections.get(i).getSchedule().getEndMinute();
+        }
+    }
+
+    // EFFECTS: returns the sections meeting on day (all sections if day is -1), sorted by starting minute
+    //          and then by codes; the starting minute and number of each section are packed in a long,
+    //          so that sorting the longs sorts the sections
+    private Course[] sortByStart(int day) {
+        long[] packed = new long[sections.size()];
+        int n = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            if (day < 0 || (dayMasks[i] & (1 << day)) != 0) {
+                packed[n++] = ((long) startMinutes[i] << 32) | i;
+            }
+        }
+        Arrays.sort(packed, 0, n);
+        Course[] sorted = new Course[n];
+        for (int k = 0; k < n; k++) {
+            sorted[k] = sections.get((int) packed[k]);
+        }
+        return sorted;
+    }
+
+    // EFFECTS: returns the starting minutes of sorted, in the same order
+    private static int[] toStarts(Course[] sorted) {
+        int[] starts = new int[sorted.length];
+        for (int k = 0; k < sorted.length; k++) {
+            starts[k] = sorted[k].getSchedule().getStartMinute();
+        }
+        return starts;
+    }
+
+    // EFFECTS: returns the term of this catalog
+    public String getTerm() {
+        return term;
+    }
+
+    // EFFECTS: returns the number of sections in this catalog
+    public int size() {
+        return sections.size();
+    }
+
+    // EFFECTS: returns a read-only list of all sections in this catalog, sorted by their codes
+    public List<Course> getSections() {
+        return sections;
+    }
+
+    // EFFECTS: returns the section with key, or null if there is no such section in this catalog
+    public Course getSection(CourseKey key) {
+        int i = lowerBound(sections.size(), k -> sections.get(k).getKey().compareTo(key) < 0);
+        return i < sections.size() && sections.get(i).getKey().equals(key) ? sections.get(i) : null;
+    }
+
+    // EFFECTS: returns a read-only list of the sections with subject code, sorted by their codes
+    public List<Course> getSectionsOfSubject(String subject) {
+        int from = lowerBound(sections.size(), k -> sections.get(k).getSubjectCode().compareTo(subject) < 0);
+        int to = lowerBound(sections.size(), k -> sections.get(k).getSubjectCode().compareTo(subject) <= 0);
+        return sections.subList(from, to);
+    }
+
+    // EFFECTS: returns a read-only list of the sections with subject and course codes, sorted by section code
+    public List<Course> getSectionsOfCourse(String subject, String course) {
+        int from = lowerBound(sections.size(), k -> compareCourse(sections.get(k), subject, course) < 0);
+        int to = lowerBound(sections.size(), k -> compareCourse(sections.get(k), subject, course) <= 0);
+        return sections.subList(from, to);
+    }
+
+    // EFFECTS: compares the subject and course codes of section with subject and course, in the order of keys
+    private static int compareCourse(Course section, String subject, String course) {
+        int result = section.getSubjectCode().compareTo(subject);
+        return result != 0 ? result : section.getCourseCode().compareTo(course);
+    }
+
+    // EFFECTS: returns a read-only list of the sections meeting on day, sorted by starting time
+    public List<Course> getSectionsOnDay(Weekday day) {
+        return sectionsByDay.get(day.ordinal());
+    }
+
+    // EFFECTS: returns a read-only list of the sections starting at or after from and before to,
+    //          as minutes of day, sorted by starting time
+    public List<Course> getSectionsStartingBetween(int from, int to) {
+        return range(sectionsByStart, startsByStart, from, to);
+    }
+
+    // EFFECTS: returns a read-only list of the sections meeting on day and starting at or after from and
+    //          before to, as minutes of day, sorted by starting time
+    public List<Course> getSectionsOnDayStartingBetween(Weekday day, int from, int to) {
+        return range(sectionsByDay.get(day.ordinal()), startsByDay.get(day.ordinal()), from, to);
+    }
+
+    // EFFECTS: returns the range of sorted whose starting minutes in starts are at or after from and before to
+    private static List<Course> range(List<Course> sorted, int[] starts, int from, int to) {
+        int lo = lowerBound(starts.length, k -> starts[k] < from);
+        int hi = Math.max(lo, lowerBound(starts.length, k -> starts[k] < to));
+        return sorted.subList(lo, hi);
+    }
+
+    // EFFECTS: returns the sections of this catalog, sorted by their codes, which do not conflict with any
+    //          course of worklist; the sections are checked against the complement of the busy times of
+    //          worklist, straight from the schedule arrays, and only sections that are empty or end before
+    //          they start are checked against the courses of worklist one by one
+    public List<Course> getSectionsFitting(Worklist worklist) {
+        WeekMask busyMask = worklist.getBusyMask();
+        List<Course> fitting = new ArrayList<>();
+        for (int i = 0; i < dayMasks.length; i++) {
+            if (isFitting(i, busyMask, worklist)) {
+                fitting.add(sections.get(i));
+            }
+        }
+        return fitting;
+    }
+
+    // EFFECTS: returns the other sections of this catalog with the same subject and course codes as course,
+    //          sorted by section code, which do not conflict with any course of worklist; only the run of
+    //          sections of that course is checked, found by binary search on their sorted codes
+    public List<Course> getAlternativeSections(Course course, Worklist worklist) {
+        String subject = course.getSubjectCode();
+        String code = course.getCourseCode();
+        int from = lowerBound(sections.size(), k -> compareCourse(sections.get(k), subject, code) < 0);
+        int to = lowerBound(sections.size(), k -> compareCourse(sections.get(k), subject, code) <= 0);
+        WeekMask busyMask = worklist.getBusyMask();
+        List<Course> alternatives = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (!sections.get(i).getKey().equals(course.getKey()) && isFitting(i, busyMask, worklist)) {
+                alternatives.add(sections.get(i));
+            }
+        }
+        return alternatives;
+    }
+
+    // EFFECTS: returns true if the section at index i does not conflict with any course of worklist, whose
+    //          busy times are busyMask
+    private boolean isFitting(int i, WeekMask busyMask, Worklist worklist) {
+        return startMinutes[i] < endMinutes[i]
+                ? busyMask.isFree(dayMasks[i], startMinutes[i], endMinutes[i])
+                : worklist.getConflictingCourses(sections.get(i)).isEmpty();
+    }
+
+    // EFFECTS: returns the meeting days of each section, in the order of getSections(); must not be modified
+    public int[] getDayMasks() {
+        return dayMasks;
+    }
+
+    // EFFECTS: returns the starting minute of each section, in the order of getSections(); must not be modified
+    public int[] getStartMinutes() {
+        return startMinutes;
+    }
+
+    // EFFECTS: returns the ending minute of each section, in the order of getSections(); must not be modified
+    public int[] getEndMinutes() {
+        return endMinutes;
+    }
+
+    // REQUIRES: isBefore is true for all indices below some index and false for all from it on
+    // EFFECTS: returns the least index in [0, n) for which isBefore is false, or n if there is none
+    private static int lowerBound(int n, IntPredicate isBefore) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (isBefore.test(mid)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+}
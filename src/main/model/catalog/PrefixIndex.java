@@ -0,0 +1,100 @@
+package model.catalog;
+
+import model.Course;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Represents a prefix-search index over the codes and titles of course sections, for type-ahead;
+// each section is entered under its codes (e.g., "cpsc 210 101"), its codes without spaces
+// (e.g., "cpsc210101"), and its title, all in lower case, and the entries are kept in one sorted array,
+// so that the entries starting with a prefix are a contiguous range found by binary search; a query
+// costs O(log n) comparisons plus the number of matches returned
+public class PrefixIndex {
+
+    private String[] terms;
+    private Course[] sections;
+
+    // EFFECTS: constructs a prefix index over sections
+    public PrefixIndex(Collection<Course> sections) {
+        List<Entry> entries = new ArrayList<>(sections.size() * 3);
+        for (Course c : sections) {
+            String codes = c.getKey().toString().toLowerCase(Locale.ROOT);
+            entries.add(new Entry(codes, c));
+            entries.add(new Entry(codes.replace(" ", ""), c));
+            entries.add(new Entry(normalize(c.getTitle()), c));
+        }
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, (e1, e2) -> {
+            int result = e1.term.compareTo(e2.term);
+            return result != 0 ? result : e1.section.getKey().compareTo(e2.section.getKey());
+        });
+        this.terms = new String[sorted.length];
+        this.sections = new Course[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            terms[i] = sorted[i].term;
+            this.sections[i] = sorted[i].section;
+        }
+    }
+
+    // EFFECTS: returns s trimmed of leading spaces and in lower case
+    private static String normalize(String s) {
+        return s.replaceFirst("^\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    // EFFECTS: returns the number of entries in this index
+    public int size() {
+        return terms.length;
+    }
+
+    // REQUIRES: limit >= 0
+    // EFFECTS: returns at most limit distinct sections with codes or title starting with prefix, ignoring
+    //          case and leading spaces, in order of the matching codes or title (then of the section codes);
+    //          returns an empty list if prefix is blank
+    public List<Course> complete(String prefix, int limit) {
+        String p = normalize(prefix);
+        if (p.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Course> matches = new LinkedHashSet<>();
+        for (int i = lowerBound(p); i < terms.length && matches.size() < limit && terms[i].startsWith(p); i++) {
+            matches.add(sections[i]);
+        }
+        return new ArrayList<>(matches);
+    }
+
+    // EFFECTS: returns the least index of an entry whose term is not less than p, or size() if there is none
+    private int lowerBound(String p) {
+        int lo = 0;
+        int hi = terms.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (terms[mid].compareTo(p) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Represents an entry of the index, i.e., a term and the section it stands for
+    private static class Entry {
+
+        private final String term;
+        private final Course section;
+
+        // EFFECTS: constructs an entry of term for section
+        Entry(String term, Course section) {
+            this.term = term;
+            this.section = section;
+        }
+    }
+
+}
@@ -0,0 +1,258 @@
+package model.catalog;
+
+import model.Course;
+import model.CourseKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Represents an inverted index over the words of the titles and the subject codes of course sections,
+// for full-text search; each section is numbered when added, and each word maps to a posting list of the
+// numbers of the sections containing it, in increasing order, with the number of times it occurs.
+// A query returns the sections containing all of its words, found by intersecting the posting lists from
+// the shortest, and ranked by tf-idf, i.e., by the sum over the query words of their occurrences in the
+// section weighted by the logarithm of the number of sections over the number containing the word.
+// Removing a section leaves its number unused until more than half the numbers are unused, when the
+// sections are renumbered in order and the posting lists remapped, so the index grows with its size
+public class TitleIndex {
+
+    private List<Course> sections;
+    private Map<CourseKey, Integer> numbers;
+    private Map<String, Postings> postingsByWord;
+    private int size;
+
+    // EFFECTS: constructs an empty title index
+    public TitleIndex() {
+        this.sections = new ArrayList<>();
+        this.numbers = new HashMap<>();
+        this.postingsByWord = new HashMap<>();
+        this.size = 0;
+    }
+
+    // EFFECTS: constructs a title index of sections; of sections with the same codes, only the first is added
+    public TitleIndex(Collection<Course> sections) {
+        this();
+        for (Course c : sections) {
+            add(c);
+        }
+    }
+
+    // EFFECTS: returns the lower-case words of s, i.e., its maximal runs of letters and digits
+    public static List<String> tokenize(String s) {
+        List<String> words = new ArrayList<>();
+        for (String word : s.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // EFFECTS: returns the number of sections in this index
+    public int size() {
+        return size;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds course to this index under the words of its title and its subject code, and returns true;
+    //          does nothing and returns false if a section with the same codes is already in this index
+    public boolean add(Course course) {
+        if (numbers.containsKey(course.getKey())) {
+            return false;
+        }
+        int number = sections.size();
+        sections.add(course);
+        numbers.put(course.getKey(), number);
+        size++;
+        for (Map.Entry<String, Integer> e : countWords(course).entrySet()) {
+            postingsByWord.computeIfAbsent(e.getKey(), word -> new Postings()).append(number, e.getValue());
+        }
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the section with the same codes as course from this index, and returns true;
+    //          does nothing and returns false if there is no such section
+    public boolean remove(Course course) {
+        Integer number = numbers.remove(course.getKey());
+        if (number == null) {
+            return false;
+        }
+        for (String word : countWords(sections.get(number)).keySet()) {
+            Postings postings = postingsByWord.get(word);
+            postings.remove(number);
+            if (postings.size == 0) {
+                postingsByWord.remove(word);
+            }
+        }
+        sections.set(number, null);
+        size--;
+        if (2 * size < sections.size()) {
+            renumber();
+        }
+        return true;
+    }
+
+    // EFFECTS: returns the number of section numbers in use or unused, i.e., one more than the greatest number
+    int getNumSlots() {
+        return sections.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: numbers the sections in this index from 0 in the order they were added, dropping the unused
+    //          numbers, and maps the numbers in every posting list to the new ones
+    private void renumber() {
+        int[] renumbered = new int[sections.size()];
+        List<Course> live = new ArrayList<>(size);
+        for (int number = 0; number < sections.size(); number++) {
+            Course course = sections.get(number);
+            if (course != null) {
+                renumbered[number] = live.size();
+                numbers.put(course.getKey(), live.size());
+                live.add(course);
+            }
+        }
+        sections = live;
+        for (Postings postings : postingsByWord.values()) {
+            postings.renumber(renumbered);
+        }
+    }
+
+    // EFFECTS: returns the words of the title and subject code of course, each with its number of occurrences
+    private static Map<String, Integer> countWords(Course course) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : tokenize(course.getSubjectCode() + " " + course.getTitle())) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    // REQUIRES: limit >= 0
+    // EFFECTS: returns at most limit sections whose title or subject code contains every word of query,
+    //          from highest to lowest tf-idf score, ties in the order the sections were added;
+    //          returns an empty list if query has no words
+    public List<Course> search(String query, int limit) {
+        List<Postings> lists = new ArrayList<>();
+        for (String word : new LinkedHashSet<>(tokenize(query))) {
+            Postings postings = postingsByWord.get(word);
+            if (postings == null) {
+                return Collections.emptyList();
+            }
+            lists.add(postings);
+        }
+        if (lists.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lists.sort((p1, p2) -> Integer.compare(p1.size, p2.size));
+        int[] matches = intersect(lists);
+        return rank(matches, lists, limit);
+    }
+
+    // EFFECTS: returns the section numbers in all posting lists of lists, in increasing order,
+    //          walking the shortest list and searching the others from where the last search stopped
+    private static int[] intersect(List<Postings> lists) {
+        Postings shortest = lists.get(0);
+        int[] matches = new int[shortest.size];
+        int[] cursors = new int[lists.size()];
+        int n = 0;
+        for (int k = 0; k < shortest.size; k++) {
+            int number = shortest.numbers[k];
+            boolean inAll = true;
+            for (int l = 1; l < lists.size() && inAll; l++) {
+                cursors[l] = lists.get(l).seek(number, cursors[l]);
+                inAll = cursors[l] < lists.get(l).size && lists.get(l).numbers[cursors[l]] == number;
+            }
+            if (inAll) {
+                matches[n++] = number;
+            }
+        }
+        return Arrays.copyOf(matches, n);
+    }
+
+    // EFFECTS: returns the limit best sections of matches by tf-idf score over the posting lists of lists
+    private List<Course> rank(int[] matches, List<Postings> lists, int limit) {
+        double[] scores = new double[matches.length];
+        for (Postings postings : lists) {
+            double idf = Math.log(1.0 + (double) size / postings.size);
+            int cursor = 0;
+            for (int m = 0; m < matches.length; m++) {
+                cursor = postings.seek(matches[m], cursor);
+                scores[m] += postings.counts[cursor] * idf;
+            }
+        }
+        Integer[] order = new Integer[matches.length];
+        for (int m = 0; m < order.length; m++) {
+            order[m] = m;
+        }
+        Arrays.sort(order, (m1, m2) -> Double.compare(scores[m2], scores[m1]));
+        List<Course> ranked = new ArrayList<>();
+        for (int m = 0; m < Math.min(limit, order.length); m++) {
+            ranked.add(sections.get(matches[order[m]]));
+        }
+        return ranked;
+    }
+
+    // Represents the posting list of a word: the increasing numbers of the sections containing the word,
+    // and the number of occurrences of the word in each
+    private static class Postings {
+
+        private int[] numbers = new int[2];
+        private int[] counts = new int[2];
+        private int size = 0;
+
+        // REQUIRES: number is greater than every number in this list
+        // MODIFIES: this
+        // EFFECTS: appends number with count occurrences to the end of this list
+        void append(int number, int count) {
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            numbers[size] = number;
+            counts[size] = count;
+            size++;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: removes number from this list, if it is there
+        void remove(int number) {
+            int i = Arrays.binarySearch(numbers, 0, size, number);
+            if (i >= 0) {
+                System.arraycopy(numbers, i + 1, numbers, i, size - i - 1);
+                System.arraycopy(counts, i + 1, counts, i, size - i - 1);
+                size--;
+            }
+        }
+
+        // REQUIRES: renumbered maps the numbers in this list to numbers in the same order
+        // MODIFIES: this
+        // EFFECTS: replaces each number in this list with the one it maps to in renumbered
+        void renumber(int[] renumbered) {
+            for (int i = 0; i < size; i++) {
+                numbers[i] = renumbered[numbers[i]];
+            }
+        }
+
+        // EFFECTS: returns the least index from from on whose number is not less than number, or size if there
+        //          is none, by doubling steps and then binary search
+        int seek(int number, int from) {
+            int step = 1;
+            int hi = from;
+            while (hi < size && numbers[hi] < number) {
+                from = hi + 1;
+                hi += step;
+                step *= 2;
+            }
+            int i = Arrays.binarySearch(numbers, from, Math.min(hi, size - 1) + 1, number);
+            return i >= 0 ? i : -i - 1;
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+package model.planner;
+
+import model.Course;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Represents a branch-and-bound search for the best-scoring timetables over candidate sections;
+// each group is either given one section, tried starred sections first, or skipped if none of its
+// sections is required. The best timetables found are kept in a bounded priority queue, worst first,
+// and a branch is cut when the queue is full and the upper bound of the branch, i.e., the points of
+// the chosen sections plus the most points each remaining group could add, less the penalty for the
+// days already on campus, is no better than the worst kept score; the bound is admissible since
+// adding sections never removes a day and gaps only lower the score.
+// Timetables are ranked by decreasing score, and equal scores in the order the search reaches them,
+// so a search may resume after the last timetable of a previous one to find the next ones
+class BranchAndBoundSearch {
+
+    // Order of ranked timetables from best to worst
+    static final Comparator<Ranked> RANK_ORDER = BranchAndBoundSearch::compareRanks;
+
+    // Number of nodes visited between two checks of the clock
+    private static final int NODES_PER_CLOCK_CHECK = 1024;
+
+    private CandidateSections candidates;
+    private TimetableScorer scorer;
+    private boolean[] required;
+    private int[][] orders;
+    private long[] maxRemainingPoints;
+
+    // State of a search: chosen[g] is the position in orders[g] of the section chosen for group g,
+    // or orders[g].length if g is skipped
+    private int[] chosen;
+    private long[][] blocked;
+    private long deadline;
+    private long numNodes;
+    private boolean timedOut;
+    private int capacity;
+    private Ranked after;
+    private PriorityQueue<Ranked> top;
+
+    // EFFECTS: constructs a search over candidates scored by scorer, where a group is required
+    //          if any of its sections is required
+    BranchAndBoundSearch(CandidateSections candidates, TimetableScorer scorer) {
+        this.candidates = candidates;
+        this.scorer = scorer;
+        int numGroups = candidates.getNumGroups();
+        this.required = new boolean[numGroups];
+        this.orders = new int[numGroups][];
+        this.maxRemainingPoints = new long[numGroups + 1];
+        for (int g = numGroups - 1; g >= 0; g--) {
+            initGroup(g);
+        }
+        this.chosen = new int[numGroups];
+        this.blocked = new long[numGroups + 1][candidates.getNumWords()];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: orders the sections of group g by decreasing points (starred first, ties by number),
+    //          and computes whether g is required and the most points of groups g and after
+    private void initGroup(int g) {
+        int start = candidates.getGroupStart(g);
+        Integer[] order = new Integer[candidates.getGroupEnd(g) - start];
+        long maxPoints = 0;
+        for (int i = 0; i < order.length; i++) {
+            Course section = candidates.getSection(start + i);
+            order[i] = start + i;
+            required[g] |= section.isRequired();
+            maxPoints = Math.max(maxPoints, scorer.getSectionPoints(section));
+        }
+        Arrays.sort(order, (i, j) -> Long.compare(scorer.getSectionPoints(candidates.getSection(j)),
+                scorer.getSectionPoints(candidates.getSection(i))));
+        orders[g] = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        maxRemainingPoints[g] = maxRemainingPoints[g + 1] + maxPoints;
+    }
+
+    // EFFECTS: returns true if the last search stopped at its deadline before exploring the whole tree
+    boolean isTimedOut() {
+        return timedOut;
+    }
+
+    // REQUIRES: capacity >= 1, budgetNanos >= 0
+    // MODIFIES: this
+    // EFFECTS: returns, from best to worst, the capacity best-ranked timetables which contain every
+    //          required group and rank after after (or from the first if after is null), searching until
+    //          the tree is exhausted or budgetNanos nanoseconds have passed; returns fewer if there are
+    //          not that many
+    List<Ranked> search(int capacity, Ranked after, long budgetNanos) {
+        this.deadline = System.nanoTime() + Math.min(budgetNanos, Long.MAX_VALUE / 2);
+        this.numNodes = 0;
+        this.timedOut = false;
+        this.capacity = capacity;
+        this.after = after;
+        this.top = new PriorityQueue<>(capacity, Collections.reverseOrder(RANK_ORDER));
+        Arrays.fill(blocked[0], 0L);
+        if (isFeasible(0, blocked[0])) {
+            search(0, 0, 0);
+        }
+        List<Ranked> ranked = new ArrayList<>(top);
+        ranked.sort(RANK_ORDER);
+        top = null;
+        return ranked;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: chooses a section for, or skips, group g and each later group, with points and dayMask
+    //          of the sections chosen so far, and keeps complete timetables ranked among the best
+    private void search(int g, long points, int dayMask) {
+        if (isOutOfTime()) {
+            return;
+        }
+        long bound = points + maxRemainingPoints[g] - scorer.getDayPenalty(Integer.bitCount(dayMask));
+        if (top.size() == capacity && bound <= top.peek().getScore()) {
+            return;
+        }
+        if (g == chosen.length) {
+            evaluate();
+            return;
+        }
+        for (int p = 0; p < orders[g].length; p++) {
+            if (!CandidateSections.isSet(blocked[g], orders[g][p])) {
+                searchWith(g, p, points, dayMask);
+            }
+        }
+        if (!required[g]) {
+            chosen[g] = orders[g].length;
+            System.arraycopy(blocked[g], 0, blocked[g + 1], 0, blocked[g].length);
+            search(g + 1, points, dayMask);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: chooses the section at position p in orders[g] for group g, then searches the later
+    //          groups if each required one still has an open section
+    private void searchWith(int g, int p, long points, int dayMask) {
+        int i = orders[g][p];
+        chosen[g] = p;
+        combine(blocked[g], candidates.getConflicts(i), blocked[g + 1]);
+        if (isFeasible(g + 1, blocked[g + 1])) {
+            Course section = candidates.getSection(i);
+            search(g + 1, points + scorer.getSectionPoints(section), dayMask | section.getSchedule().getDayMask());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if the deadline has passed, checking the clock once every NODES_PER_CLOCK_CHECK
+    //          calls; once true, stays true until the next search
+    private boolean isOutOfTime() {
+        if (!timedOut && ++numNodes % NODES_PER_CLOCK_CHECK == 0 && System.nanoTime() - deadline > 0) {
+            timedOut = true;
+        }
+        return timedOut;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: scores the timetable of the chosen sections, and keeps it if it ranks after after and
+    //          among the capacity best found; since the search reaches timetables in rank order of
+    //          equal scores, a timetable with the same score as the worst kept one is not kept
+    private void evaluate() {
+        List<Course> sections = new ArrayList<>();
+        for (int g = 0; g < chosen.length; g++) {
+            if (chosen[g] < orders[g].length) {
+                sections.add(candidates.getSection(orders[g][chosen[g]]));
+            }
+        }
+        Timetable timetable = new Timetable(sections);
+        long score = scorer.score(timetable);
+        if (after != null && (score > after.getScore() || score == after.getScore()
+                && comparePositions(chosen, after.positions) <= 0)) {
+            return;
+        }
+        if (top.size() == capacity) {
+            if (score <= top.peek().getScore()) {
+                return;
+            }
+            top.poll();
+        }
+        top.add(new Ranked(new ScoredTimetable(timetable, score), chosen.clone()));
+    }
+
+    // EFFECTS: returns a negative number, zero, or a positive number if r1 ranks before, the same as,
+    //          or after r2
+    private static int compareRanks(Ranked r1, Ranked r2) {
+        int result = Long.compare(r2.getScore(), r1.getScore());
+        return result != 0 ? result : comparePositions(r1.positions, r2.positions);
+    }
+
+    // EFFECTS: compares the chosen positions of two timetables lexicographically, which is the order
+    //          in which the search reaches them
+    private static int comparePositions(int[] positions1, int[] positions2) {
+        for (int g = 0; g < positions1.length; g++) {
+            if (positions1[g] != positions2[g]) {
+                return Integer.compare(positions1[g], positions2[g]);
+            }
+        }
+        return 0;
+    }
+
+    // EFFECTS: returns true if every required group from group first on has a section not set in bitset
+    private boolean isFeasible(int first, long[] bitset) {
+        for (int g = first; g < chosen.length; g++) {
+            if (required[g] && !candidates.hasOpenSection(g, bitset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // MODIFIES: result
+    // EFFECTS: stores the union of bitsets a and b in result
+    private static void combine(long[] a, long[] b, long[] result) {
+        for (int w = 0; w < result.length; w++) {
+            result[w] = a[w] | b[w];
+        }
+    }
+
+    // Represents a scored timetable with its position in the search tree, which fixes its rank
+    static class Ranked {
+
+        private final ScoredTimetable scored;
+        private final int[] positions;
+
+        // EFFECTS: constructs a ranked timetable of scored, reached by choosing positions
+        Ranked(ScoredTimetable scored, int[] positions) {
+            this.scored = scored;
+            this.positions = positions;
+        }
+
+        // EFFECTS: returns the scored timetable
+        ScoredTimetable getScored() {
+            return scored;
+        }
+
+        // EFFECTS: returns the score of the timetable
+        long getScore() {
+            return scored.getScore();
+        }
+    }
+
+}
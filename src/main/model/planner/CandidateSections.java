@@ -0,0 +1,138 @@
+package model.planner;
+
+import model.Course;
+import model.CourseKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Represents the candidate sections of the courses wanted in a timetable, grouped by course
+// (i.e., by subject and course codes) and numbered group by group; the sections conflicting with
+// each section, and the sections of each group, are stored as bitsets over the section numbers
+public class CandidateSections {
+
+    private Course[] sections;
+    private int[] groupStarts;
+    private long[][] conflicts;
+    private long[][] groupMasks;
+
+    // REQUIRES: every course in candidates has a schedule
+    // EFFECTS: constructs candidate sections from candidates, ordering the groups from fewest to
+    //          most sections (ties in order of first appearance); repeated sections are ignored
+    public CandidateSections(Collection<Course> candidates) {
+        initSections(groupByCourse(candidates));
+        initConflicts();
+        initGroupMasks();
+    }
+
+    // EFFECTS: returns the distinct sections of candidates grouped by course, from fewest to most sections
+    private static List<List<Course>> groupByCourse(Collection<Course> candidates) {
+        Map<String, List<Course>> groups = new LinkedHashMap<>();
+        Set<CourseKey> keys = new HashSet<>();
+        for (Course c : candidates) {
+            if (keys.add(c.getKey())) {
+                groups.computeIfAbsent(c.getSubjectCourseCode(), code -> new ArrayList<>()).add(c);
+            }
+        }
+        List<List<Course>> sortedGroups = new ArrayList<>(groups.values());
+        sortedGroups.sort(Comparator.comparingInt(List::size));
+        return sortedGroups;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: numbers the sections of groups group by group
+    private void initSections(List<List<Course>> groups) {
+        List<Course> allSections = new ArrayList<>();
+        groupStarts = new int[groups.size() + 1];
+        for (int g = 0; g < groups.size(); g++) {
+            groupStarts[g] = allSections.size();
+            allSections.addAll(groups.get(g));
+        }
+        groupStarts[groups.size()] = allSections.size();
+        sections = allSections.toArray(new Course[0]);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: computes the bitset of conflicting sections for each section
+    private void initConflicts() {
+        conflicts = new long[sections.length][getNumWords()];
+        for (int i = 0; i < sections.length; i++) {
+            for (int j = i + 1; j < sections.length; j++) {
+                if (sections[i].getSchedule().isOverlapping(sections[j].getSchedule())) {
+                    conflicts[i][j >>> 6] |= 1L << j;
+                    conflicts[j][i >>> 6] |= 1L << i;
+                }
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: computes the bitset of sections of each group
+    private void initGroupMasks() {
+        groupMasks = new long[getNumGroups()][getNumWords()];
+        for (int g = 0; g < getNumGroups(); g++) {
+            for (int i = groupStarts[g]; i < groupStarts[g + 1]; i++) {
+                groupMasks[g][i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    // EFFECTS: returns the number of groups, i.e., of distinct courses
+    public int getNumGroups() {
+        return groupStarts.length - 1;
+    }
+
+    // EFFECTS: returns the number of sections in all groups
+    public int getNumSections() {
+        return sections.length;
+    }
+
+    // EFFECTS: returns the number of longs in a bitset over the sections
+    public int getNumWords() {
+        return Math.max(1, (sections.length + 63) >>> 6);
+    }
+
+    // EFFECTS: returns the number of the first section of group g
+    public int getGroupStart(int g) {
+        return groupStarts[g];
+    }
+
+    // EFFECTS: returns one plus the number of the last section of group g
+    public int getGroupEnd(int g) {
+        return groupStarts[g + 1];
+    }
+
+    // EFFECTS: returns the section with number i
+    public Course getSection(int i) {
+        return sections[i];
+    }
+
+    // EFFECTS: returns the bitset of sections conflicting with section i; it must not be modified
+    public long[] getConflicts(int i) {
+        return conflicts[i];
+    }
+
+    // EFFECTS: returns true if bit i is set in bitset
+    public static boolean isSet(long[] bitset, int i) {
+        return (bitset[i >>> 6] & (1L << i)) != 0;
+    }
+
+    // EFFECTS: returns true if group g has a section whose bit is not set in blocked
+    public boolean hasOpenSection(int g, long[] blocked) {
+        long[] mask = groupMasks[g];
+        int last = (groupStarts[g + 1] - 1) >>> 6;
+        for (int w = groupStarts[g] >>> 6; w <= last; w++) {
+            if ((mask[w] & ~blocked[w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
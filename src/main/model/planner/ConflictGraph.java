@@ -0,0 +1,119 @@
+package model.planner;
+
+import exception.CourseNotFoundException;
+import model.ConflictSweep;
+import model.Course;
+import model.CourseKey;
+import model.Schedule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents the conflict graph of a collection of sections, e.g., of a whole term catalog, where two
+// sections are adjacent if their schedules overlap; the graph is built by two sweeps over the meetings
+// of all sections (one to count the conflicts of each section, one to record them), in time linear in
+// the number of conflicts after sorting, and is stored in compressed sparse row form: the conflicts of
+// section i are the section numbers neighbours[offsets[i]] to neighbours[offsets[i + 1] - 1], ascending
+public class ConflictGraph {
+
+    private List<Course> sections;
+    private Map<CourseKey, Integer> numbers;
+    private int[] offsets;
+    private int[] neighbours;
+
+    // REQUIRES: every course in sections has a schedule, and no two courses in sections have the same codes
+    // EFFECTS: constructs the conflict graph of sections, numbering them in iteration order
+    public ConflictGraph(Collection<Course> sections) {
+        this.sections = new ArrayList<>(sections);
+        this.numbers = new HashMap<>();
+        List<Schedule> schedules = new ArrayList<>(this.sections.size());
+        for (int i = 0; i < this.sections.size(); i++) {
+            numbers.put(this.sections.get(i).getKey(), i);
+            schedules.add(this.sections.get(i).getSchedule());
+        }
+        initAdjacency(schedules);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: computes offsets and neighbours from the conflicts among schedules
+    private void initAdjacency(List<Schedule> schedules) {
+        int[] degrees = new int[schedules.size() + 1];
+        ConflictSweep.forEachConflict(schedules, (i, j) -> {
+            degrees[i]++;
+            degrees[j]++;
+        });
+        offsets = new int[degrees.length];
+        for (int i = 0; i < schedules.size(); i++) {
+            offsets[i + 1] = offsets[i] + degrees[i];
+        }
+        neighbours = new int[offsets[schedules.size()]];
+        int[] next = Arrays.copyOf(offsets, schedules.size());
+        ConflictSweep.forEachConflict(schedules, (i, j) -> {
+            neighbours[next[i]++] = j;
+            neighbours[next[j]++] = i;
+        });
+        for (int i = 0; i < schedules.size(); i++) {
+            Arrays.sort(neighbours, offsets[i], offsets[i + 1]);
+        }
+    }
+
+    // EFFECTS: returns the number of sections in this graph
+    public int getNumSections() {
+        return sections.size();
+    }
+
+    // EFFECTS: returns the number of pairs of conflicting sections in this graph
+    public int getNumConflicts() {
+        return neighbours.length / 2;
+    }
+
+    // REQUIRES: 0 <= i < getNumSections()
+    // EFFECTS: returns the section with number i
+    public Course getSection(int i) {
+        return sections.get(i);
+    }
+
+    // EFFECTS: returns the number of section in this graph with the same codes as course;
+    //          throws CourseNotFoundException if there is no such section
+    public int getNumber(Course course) throws CourseNotFoundException {
+        Integer i = numbers.get(course.getKey());
+        if (i == null) {
+            throw new CourseNotFoundException();
+        }
+        return i;
+    }
+
+    // REQUIRES: 0 <= i < getNumSections()
+    // EFFECTS: returns the number of sections conflicting with section i
+    public int getDegree(int i) {
+        return offsets[i + 1] - offsets[i];
+    }
+
+    // REQUIRES: 0 <= i < getNumSections()
+    // EFFECTS: returns the numbers of the sections conflicting with section i, in ascending order
+    public int[] getConflicts(int i) {
+        return Arrays.copyOfRange(neighbours, offsets[i], offsets[i + 1]);
+    }
+
+    // REQUIRES: 0 <= i, j < getNumSections()
+    // EFFECTS: returns true if sections i and j conflict
+    public boolean isConflicting(int i, int j) {
+        return Arrays.binarySearch(neighbours, offsets[i], offsets[i + 1], j) >= 0;
+    }
+
+    // EFFECTS: returns the sections conflicting with the section with the same codes as course,
+    //          in order of their numbers; throws CourseNotFoundException if there is no such section
+    public List<Course> getConflictingCourses(Course course) throws CourseNotFoundException {
+        int i = getNumber(course);
+        List<Course> conflicts = new ArrayList<>(getDegree(i));
+        for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+            conflicts.add(sections.get(neighbours[k]));
+        }
+        return conflicts;
+    }
+
+}
@@ -0,0 +1,186 @@
+package model.planner;
+
+import model.Course;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+// Represents a generator of all conflict-free timetables which runs the search on a fork/join pool;
+// the search tree is split into one task per open section at each of its top levels, and the
+// timetables of the tasks are joined in section order, so the output is the same as that of
+// a sequential TimetableGenerator on the same candidates. To count or stream search spaces too large
+// to keep in memory, the tasks can instead pass timetables to a consumer, or only count them, and
+// join their counts
+public class ParallelTimetableGenerator {
+
+    // Number of tasks per worker thread aimed for when choosing the depth of the split
+    private static final int TASKS_PER_THREAD = 8;
+
+    private CandidateSections candidates;
+    private int parallelism;
+    private int splitDepth;
+
+    // REQUIRES: every course in candidates has a schedule
+    // EFFECTS: constructs a parallel generator for the courses of candidates, using as many
+    //          worker threads as there are available processors
+    public ParallelTimetableGenerator(Collection<Course> candidates) {
+        this(candidates, Runtime.getRuntime().availableProcessors());
+    }
+
+    // REQUIRES: every course in candidates has a schedule, and parallelism >= 1
+    // EFFECTS: constructs a parallel generator for the courses of candidates, using at most
+    //          parallelism worker threads
+    public ParallelTimetableGenerator(Collection<Course> candidates, int parallelism) {
+        this.candidates = new CandidateSections(candidates);
+        this.parallelism = parallelism;
+        this.splitDepth = chooseSplitDepth(this.candidates, parallelism * TASKS_PER_THREAD);
+    }
+
+    // EFFECTS: returns the fewest top levels of the search tree that give at least minTasks tasks,
+    //          or all levels if there are not enough sections for that
+    private static int chooseSplitDepth(CandidateSections candidates, int minTasks) {
+        long tasks = 1;
+        int depth = 0;
+        while (depth < candidates.getNumGroups() && tasks < minTasks) {
+            tasks *= candidates.getGroupEnd(depth) - candidates.getGroupStart(depth);
+            depth++;
+        }
+        return depth;
+    }
+
+    // EFFECTS: returns the candidate sections of this generator
+    public CandidateSections getCandidates() {
+        return candidates;
+    }
+
+    // EFFECTS: returns the maximum number of worker threads of this generator
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // EFFECTS: returns all conflict-free timetables, in the same order as TimetableGenerator.generate()
+    public List<Timetable> generate() {
+        return invoke(new SearchTask(new int[0]));
+    }
+
+    // REQUIRES: consumer can be called from several threads at once
+    // EFFECTS: passes each conflict-free timetable to consumer as soon as it is found, from the worker
+    //          threads and in no particular order, without keeping them
+    public void generate(Consumer<Timetable> consumer) {
+        invoke(new CountTask(new int[0], consumer));
+    }
+
+    // EFFECTS: returns the number of conflict-free timetables, counted without building them
+    public long count() {
+        return invoke(new CountTask(new int[0], null));
+    }
+
+    // EFFECTS: runs task on a new pool of parallelism worker threads and returns its result
+    private <T> T invoke(RecursiveTask<T> task) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(task);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // EFFECTS: returns the prefixes extending prefix with each section of the next group not conflicting
+    //          with prefix, in section order
+    private List<int[]> extend(int[] prefix) {
+        List<int[]> prefixes = new ArrayList<>();
+        for (int i = candidates.getGroupStart(prefix.length); i < candidates.getGroupEnd(prefix.length); i++) {
+            if (!isConflicting(prefix, i)) {
+                int[] next = Arrays.copyOf(prefix, prefix.length + 1);
+                next[prefix.length] = i;
+                prefixes.add(next);
+            }
+        }
+        return prefixes;
+    }
+
+    // EFFECTS: returns true if section i conflicts with a section of prefix
+    private boolean isConflicting(int[] prefix, int i) {
+        for (int chosen : prefix) {
+            if (CandidateSections.isSet(candidates.getConflicts(chosen), i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Represents the task of finding the timetables whose first sections are a given prefix
+    private class SearchTask extends RecursiveTask<List<Timetable>> {
+
+        private final int[] prefix;
+
+        // EFFECTS: constructs a task for the timetables starting with prefix
+        SearchTask(int[] prefix) {
+            this.prefix = prefix;
+        }
+
+        // EFFECTS: searches below prefix in this thread if prefix is at the split depth; otherwise
+        //          forks a task for each section of the next group not conflicting with prefix,
+        //          and joins their timetables in order
+        @Override
+        protected List<Timetable> compute() {
+            List<Timetable> timetables = new ArrayList<>();
+            if (prefix.length >= splitDepth) {
+                new TimetableSearch(candidates, timetables::add).searchFrom(prefix);
+                return timetables;
+            }
+            List<SearchTask> tasks = new ArrayList<>();
+            for (int[] next : extend(prefix)) {
+                tasks.add(new SearchTask(next));
+            }
+            invokeAll(tasks);
+            for (SearchTask task : tasks) {
+                timetables.addAll(task.join());
+            }
+            return timetables;
+        }
+    }
+
+    // Represents the task of counting the timetables whose first sections are a given prefix, and passing
+    // them to a consumer if there is one
+    private class CountTask extends RecursiveTask<Long> {
+
+        private final int[] prefix;
+        private final Consumer<Timetable> consumer;
+
+        // EFFECTS: constructs a task for the timetables starting with prefix, which passes them to consumer,
+        //          or only counts them if consumer is null
+        CountTask(int[] prefix, Consumer<Timetable> consumer) {
+            this.prefix = prefix;
+            this.consumer = consumer;
+        }
+
+        // EFFECTS: searches below prefix in this thread if prefix is at the split depth; otherwise
+        //          forks a task for each section of the next group not conflicting with prefix,
+        //          and returns the sum of their counts
+        @Override
+        protected Long compute() {
+            if (prefix.length >= splitDepth) {
+                TimetableSearch search = new TimetableSearch(candidates, consumer);
+                search.searchFrom(prefix);
+                return search.getNumFound();
+            }
+            List<CountTask> tasks = new ArrayList<>();
+            for (int[] next : extend(prefix)) {
+                tasks.add(new CountTask(next, consumer));
+            }
+            invokeAll(tasks);
+            long count = 0;
+            for (CountTask task : tasks) {
+                count += task.join();
+            }
+            return count;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package model.planner;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Represents a lazy iterator over the conflict-free timetables of candidate sections, from best to
+// worst score; timetables are found a page at a time by a branch-and-bound search that keeps only
+// the best page after the last timetable returned, so memory stays in proportion to the page size,
+// and no search is done beyond the page of the last timetable asked for
+public class RankedTimetableIterator implements Iterator<ScoredTimetable> {
+
+    private BranchAndBoundSearch search;
+    private int pageSize;
+    private List<BranchAndBoundSearch.Ranked> page;
+    private int next;
+    private BranchAndBoundSearch.Ranked last;
+    private boolean exhausted;
+
+    // REQUIRES: pageSize >= 1
+    // EFFECTS: constructs an iterator over the timetables of candidates scored by scorer,
+    //          searching for pageSize timetables at a time
+    RankedTimetableIterator(CandidateSections candidates, TimetableScorer scorer, int pageSize) {
+        this.search = new BranchAndBoundSearch(candidates, scorer);
+        this.pageSize = pageSize;
+        this.page = new ArrayList<>();
+        this.next = 0;
+        this.last = null;
+        this.exhausted = false;
+    }
+
+    // EFFECTS: returns the number of timetables searched for at a time
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if there is another timetable, searching for the next page if the current
+    //          one has been used up
+    @Override
+    public boolean hasNext() {
+        if (next == page.size() && !exhausted) {
+            page = search.search(pageSize, last, Long.MAX_VALUE);
+            next = 0;
+            exhausted = page.size() < pageSize;
+        }
+        return next < page.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next best timetable;
+    //          throws NoSuchElementException if there are no more timetables
+    @Override
+    public ScoredTimetable next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        last = page.get(next++);
+        return last.getScored();
+    }
+
+}
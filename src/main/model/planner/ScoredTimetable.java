@@ -0,0 +1,50 @@
+package model.planner;
+
+// Represents a timetable together with its score
+public class ScoredTimetable {
+
+    private Timetable timetable;
+    private long score;
+
+    // EFFECTS: constructs a scored timetable of timetable with score
+    public ScoredTimetable(Timetable timetable, long score) {
+        this.timetable = timetable;
+        this.score = score;
+    }
+
+    // EFFECTS: returns the timetable
+    public Timetable getTimetable() {
+        return timetable;
+    }
+
+    // EFFECTS: returns the score of the timetable
+    public long getScore() {
+        return score;
+    }
+
+    // EFFECTS: returns a string of the score followed by the sections of the timetable
+    @Override
+    public String toString() {
+        return "Score: " + score + "\n" + timetable.toString();
+    }
+
+    // EFFECTS: returns true if o has the same timetable and score as this
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ScoredTimetable scored = (ScoredTimetable) o;
+        return score == scored.score && timetable.equals(scored.timetable);
+    }
+
+    // EFFECTS: returns hash code of this
+    @Override
+    public int hashCode() {
+        return 31 * timetable.hashCode() + Long.hashCode(score);
+    }
+
+}
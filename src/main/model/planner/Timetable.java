@@ -0,0 +1,94 @@
+package model.planner;
+
+import model.Course;
+import model.Schedule;
+import model.Weekday;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Represents a timetable, i.e., one section chosen for each of several courses,
+// such that no two chosen sections conflict
+public class Timetable {
+
+    private List<Course> sections;
+
+    // REQUIRES: no two courses in sections overlap
+    // EFFECTS: constructs a new timetable with the given sections
+    public Timetable(List<Course> sections) {
+        this.sections = Collections.unmodifiableList(new ArrayList<>(sections));
+    }
+
+    // EFFECTS: returns an unmodifiable list of the sections of this timetable
+    public List<Course> getSections() {
+        return sections;
+    }
+
+    // EFFECTS: returns the total credits of the sections of this timetable
+    public int getTotalCredits() {
+        int credits = 0;
+        for (Course c : sections) {
+            credits += c.getCredits();
+        }
+        return credits;
+    }
+
+    // EFFECTS: returns the number of weekdays on which some section of this timetable meets
+    public int getNumDays() {
+        int dayMask = 0;
+        for (Course c : sections) {
+            dayMask |= c.getSchedule().getDayMask();
+        }
+        return Integer.bitCount(dayMask);
+    }
+
+    // EFFECTS: returns the total idle minutes between meetings of this timetable on the same day,
+    //          summed over all weekdays
+    public int getGapMinutes() {
+        int gapMinutes = 0;
+        for (int day = 0; day < Weekday.values().length; day++) {
+            List<Schedule> meetings = new ArrayList<>();
+            for (Course c : sections) {
+                if ((c.getSchedule().getDayMask() & (1 << day)) != 0) {
+                    meetings.add(c.getSchedule());
+                }
+            }
+            meetings.sort((s1, s2) -> Integer.compare(s1.getStartMinute(), s2.getStartMinute()));
+            for (int i = 1; i < meetings.size(); i++) {
+                gapMinutes += Math.max(0, meetings.get(i).getStartMinute() - meetings.get(i - 1).getEndMinute());
+            }
+        }
+        return gapMinutes;
+    }
+
+    // EFFECTS: returns a string of the sections of this timetable, one per line
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Course c : sections) {
+            builder.append(c.toString()).append("\n");
+        }
+        return builder.toString();
+    }
+
+    // EFFECTS: returns true if o has the same sections in the same order as this timetable
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Timetable timetable = (Timetable) o;
+        return sections.equals(timetable.sections);
+    }
+
+    // EFFECTS: returns hash code of this timetable
+    @Override
+    public int hashCode() {
+        return sections.hashCode();
+    }
+
+}
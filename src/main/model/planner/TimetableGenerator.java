@@ -0,0 +1,49 @@
+package model.planner;
+
+import model.Course;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Represents a generator of all conflict-free timetables which take one section of each wanted course,
+// out of the candidate sections of those courses
+public class TimetableGenerator {
+
+    private CandidateSections candidates;
+
+    // REQUIRES: every course in candidates has a schedule
+    // EFFECTS: constructs a generator for the courses of candidates, where the sections with the same
+    //          subject and course codes are the alternatives for one course
+    public TimetableGenerator(Collection<Course> candidates) {
+        this.candidates = new CandidateSections(candidates);
+    }
+
+    // EFFECTS: returns the candidate sections of this generator
+    public CandidateSections getCandidates() {
+        return candidates;
+    }
+
+    // EFFECTS: returns all conflict-free timetables, each listing its sections with courses ordered
+    //          from fewest to most candidate sections; returns an empty list if there are no candidates
+    public List<Timetable> generate() {
+        List<Timetable> timetables = new ArrayList<>();
+        generate(timetables::add);
+        return timetables;
+    }
+
+    // EFFECTS: passes each conflict-free timetable to consumer as soon as it is found,
+    //          in the same order as generate()
+    public void generate(Consumer<Timetable> consumer) {
+        new TimetableSearch(candidates, consumer).searchFrom(new int[0]);
+    }
+
+    // EFFECTS: returns the number of conflict-free timetables, counted without building them
+    public long count() {
+        TimetableSearch search = new TimetableSearch(candidates, null);
+        search.searchFrom(new int[0]);
+        return search.getNumFound();
+    }
+
+}
@@ -0,0 +1,91 @@
+package model.planner;
+
+import model.Course;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Represents an optimizer which finds the best-scoring conflict-free timetable out of the candidate
+// sections of the wanted courses; courses with a required section must be scheduled, and other
+// courses may be left out. The search is anytime: given a time budget, it returns the best
+// timetable found so far when the budget runs out. All timetables can also be iterated or
+// streamed lazily from best to worst
+public class TimetableOptimizer {
+
+    private CandidateSections candidates;
+    private TimetableScorer scorer;
+    private BranchAndBoundSearch search;
+
+    // REQUIRES: every course in candidates has a schedule
+    // EFFECTS: constructs an optimizer for the courses of candidates with the default scorer
+    public TimetableOptimizer(Collection<Course> candidates) {
+        this(candidates, new TimetableScorer());
+    }
+
+    // REQUIRES: every course in candidates has a schedule
+    // EFFECTS: constructs an optimizer for the courses of candidates, scoring timetables by scorer
+    public TimetableOptimizer(Collection<Course> candidates, TimetableScorer scorer) {
+        this.candidates = new CandidateSections(candidates);
+        this.scorer = scorer;
+        this.search = new BranchAndBoundSearch(this.candidates, scorer);
+    }
+
+    // EFFECTS: returns the candidate sections of this optimizer
+    public CandidateSections getCandidates() {
+        return candidates;
+    }
+
+    // EFFECTS: returns the scorer of this optimizer
+    public TimetableScorer getScorer() {
+        return scorer;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the best-scoring timetable, exploring the whole search tree;
+    //          returns null if no timetable schedules every course with a required section
+    public ScoredTimetable findBest() {
+        return findBest(Long.MAX_VALUE);
+    }
+
+    // REQUIRES: budgetMillis >= 0
+    // MODIFIES: this
+    // EFFECTS: returns the best-scoring timetable found within about budgetMillis milliseconds;
+    //          returns null if no timetable scheduling every course with a required section was found
+    public ScoredTimetable findBest(long budgetMillis) {
+        List<BranchAndBoundSearch.Ranked> best = search.search(1, null, TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+        return best.isEmpty() ? null : best.get(0).getScored();
+    }
+
+    // EFFECTS: returns true if the last search ran out of time, so its result may not be the best
+    public boolean isTimedOut() {
+        return search.isTimedOut();
+    }
+
+    // REQUIRES: pageSize >= 1
+    // EFFECTS: returns a lazy iterator over all timetables which schedule every course with a required
+    //          section, from best to worst score (equal scores in a fixed order), searching for
+    //          pageSize timetables at a time
+    public Iterator<ScoredTimetable> iterator(int pageSize) {
+        return new RankedTimetableIterator(candidates, scorer, pageSize);
+    }
+
+    // REQUIRES: pageSize >= 1
+    // EFFECTS: returns an ordered spliterator over the timetables of iterator(pageSize)
+    public Spliterator<ScoredTimetable> spliterator(int pageSize) {
+        return Spliterators.spliteratorUnknownSize(iterator(pageSize),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    // REQUIRES: pageSize >= 1
+    // EFFECTS: returns an ordered, sequential stream of the timetables of iterator(pageSize)
+    public Stream<ScoredTimetable> stream(int pageSize) {
+        return StreamSupport.stream(spliterator(pageSize), false);
+    }
+
+}
@@ -0,0 +1,75 @@
+package model.planner;
+
+import model.Course;
+
+// Represents the weighted objectives by which timetables are scored: points for each scheduled
+// course and for each starred section, less a penalty for each idle minute between meetings
+// and for each day on campus; a higher score is better
+public class TimetableScorer {
+
+    // Default weights; one more course outweighs any star, gap, or extra day
+    public static final int DEFAULT_COURSE_WEIGHT = 10000;
+    public static final int DEFAULT_STAR_WEIGHT = 500;
+    public static final int DEFAULT_GAP_WEIGHT = 1;
+    public static final int DEFAULT_DAY_WEIGHT = 120;
+
+    private int courseWeight;
+    private int starWeight;
+    private int gapWeight;
+    private int dayWeight;
+
+    // EFFECTS: constructs a scorer with the default weights
+    public TimetableScorer() {
+        this(DEFAULT_COURSE_WEIGHT, DEFAULT_STAR_WEIGHT, DEFAULT_GAP_WEIGHT, DEFAULT_DAY_WEIGHT);
+    }
+
+    // REQUIRES: all weights are non-negative
+    // EFFECTS: constructs a scorer with the given points per course and per starred section,
+    //          and the given penalties per gap minute and per day on campus
+    public TimetableScorer(int courseWeight, int starWeight, int gapWeight, int dayWeight) {
+        this.courseWeight = courseWeight;
+        this.starWeight = starWeight;
+        this.gapWeight = gapWeight;
+        this.dayWeight = dayWeight;
+    }
+
+    // EFFECTS: returns the points per scheduled course
+    public int getCourseWeight() {
+        return courseWeight;
+    }
+
+    // EFFECTS: returns the points per starred section
+    public int getStarWeight() {
+        return starWeight;
+    }
+
+    // EFFECTS: returns the penalty per idle minute between meetings
+    public int getGapWeight() {
+        return gapWeight;
+    }
+
+    // EFFECTS: returns the penalty per day on campus
+    public int getDayWeight() {
+        return dayWeight;
+    }
+
+    // EFFECTS: returns the points gained by scheduling section, regardless of the other sections
+    public long getSectionPoints(Course section) {
+        return courseWeight + (section.isStarred() ? starWeight : 0);
+    }
+
+    // EFFECTS: returns the penalty for meeting on numDays days
+    public long getDayPenalty(int numDays) {
+        return (long) dayWeight * numDays;
+    }
+
+    // EFFECTS: returns the score of timetable
+    public long score(Timetable timetable) {
+        long points = 0;
+        for (Course c : timetable.getSections()) {
+            points += getSectionPoints(c);
+        }
+        return points - (long) gapWeight * timetable.getGapMinutes() - getDayPenalty(timetable.getNumDays());
+    }
+
+}
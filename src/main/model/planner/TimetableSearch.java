@@ -0,0 +1,108 @@
+package model.planner;
+
+import model.Course;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Represents a backtracking search over candidate sections, which chooses one section per group
+// in group order; the sections conflicting with the chosen ones are kept as a bitset per level,
+// and a branch is cut as soon as some later group has no section left outside that bitset;
+// the timetables found are counted, and built only if there is a consumer to pass them to
+class TimetableSearch {
+
+    private CandidateSections candidates;
+    private Consumer<Timetable> consumer;
+    private int[] chosen;
+    private long[][] blocked;
+    private long numFound;
+
+    // EFFECTS: constructs a search over candidates, which passes each timetable found to consumer,
+    //          or only counts them if consumer is null
+    TimetableSearch(CandidateSections candidates, Consumer<Timetable> consumer) {
+        this.candidates = candidates;
+        this.consumer = consumer;
+        this.chosen = new int[candidates.getNumGroups()];
+        this.blocked = new long[candidates.getNumGroups() + 1][candidates.getNumWords()];
+    }
+
+    // REQUIRES: prefix[g] is a section of group g, for each g < prefix.length
+    // MODIFIES: this
+    // EFFECTS: counts and passes to consumer every conflict-free timetable whose first sections are prefix,
+    //          in increasing order of section numbers, group by group
+    void searchFrom(int[] prefix) {
+        if (candidates.getNumGroups() == 0) {
+            return;
+        }
+        Arrays.fill(blocked[0], 0L);
+        for (int g = 0; g < prefix.length; g++) {
+            if (CandidateSections.isSet(blocked[g], prefix[g])) {
+                return;
+            }
+            chosen[g] = prefix[g];
+            combine(blocked[g], candidates.getConflicts(prefix[g]), blocked[g + 1]);
+        }
+        if (isFeasible(prefix.length, blocked[prefix.length])) {
+            search(prefix.length);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: chooses a section for group g and each later group, counting complete timetables and
+    //          passing them to consumer
+    private void search(int g) {
+        if (g == chosen.length) {
+            numFound++;
+            if (consumer != null) {
+                consumer.accept(makeTimetable());
+            }
+            return;
+        }
+        long[] current = blocked[g];
+        long[] next = blocked[g + 1];
+        for (int i = candidates.getGroupStart(g); i < candidates.getGroupEnd(g); i++) {
+            if (!CandidateSections.isSet(current, i)) {
+                chosen[g] = i;
+                combine(current, candidates.getConflicts(i), next);
+                if (isFeasible(g + 1, next)) {
+                    search(g + 1);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the number of timetables found by the searches so far
+    long getNumFound() {
+        return numFound;
+    }
+
+    // EFFECTS: returns true if every group from group first on has a section not set in bitset
+    private boolean isFeasible(int first, long[] bitset) {
+        for (int g = first; g < chosen.length; g++) {
+            if (!candidates.hasOpenSection(g, bitset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // MODIFIES: result
+    // EFFECTS: stores the union of bitsets a and b in result
+    private static void combine(long[] a, long[] b, long[] result) {
+        for (int w = 0; w < result.length; w++) {
+            result[w] = a[w] | b[w];
+        }
+    }
+
+    // EFFECTS: returns the timetable of the chosen sections
+    private Timetable makeTimetable() {
+        List<Course> sections = new ArrayList<>(chosen.length);
+        for (int i : chosen) {
+            sections.add(candidates.getSection(i));
+        }
+        return new Timetable(sections);
+    }
+
+}
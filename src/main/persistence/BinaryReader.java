@@ -0,0 +1,138 @@
+package persistence;
+
+import exception.BatchAddException;
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.Schedule;
+import model.Time;
+import model.Worklist;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Represents a reader that reads worklist from the binary form written by BinaryWriter
+public class BinaryReader {
+
+    private String source;
+
+    // EFFECTS: constructs a binary reader to read from source file
+    public BinaryReader(String source) {
+        this.source = source;
+    }
+
+    // EFFECTS: reads worklist from file and returns it, adding its courses in one batch;
+    //          throws IOException if an error occurs when reading data from file, or if the file is not
+    //          a supported version of the binary form
+    public Worklist read() throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(Paths.get(source)));
+        try {
+            readHeader(in);
+            String[] strings = readStrings(in);
+            Worklist wl = new Worklist(readString(in, strings));
+            int numCourses = readCount(in);
+            List<Course> courses = new ArrayList<>(numCourses);
+            for (int i = 0; i < numCourses; i++) {
+                courses.add(readCourse(in, strings));
+            }
+            wl.addAll(courses);
+            return wl;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupt binary worklist in " + source);
+        } catch (BatchAddException e) {
+            throw new IOException("Duplicate or conflicting courses in " + source);
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the header of the binary form; throws IOException if it is not a supported version
+    private static void readHeader(ByteBuffer in) throws IOException {
+        byte[] magic = new byte[BinaryWriter.MAGIC.length];
+        in.get(magic);
+        if (!Arrays.equals(magic, BinaryWriter.MAGIC)) {
+            throw new IOException("Not a binary worklist");
+        }
+        int version = in.get();
+        if (version != BinaryWriter.VERSION) {
+            throw new IOException("Unsupported binary worklist version " + version);
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the string table and returns its strings, with null at index 0 and the string with
+    //          reference i at index i; throws IOException if a count or length is corrupt
+    private static String[] readStrings(ByteBuffer in) throws IOException {
+        int numStrings = readCount(in);
+        String[] strings = new String[numStrings + 1];
+        for (int i = 1; i <= numStrings; i++) {
+            int length = readCount(in);
+            strings[i] = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        }
+        return strings;
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads a reference to a string and returns the string
+    private static String readString(ByteBuffer in, String[] strings) {
+        return strings[readVarint(in)];
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads a course and returns it; throws IOException if a code is missing or its schedule is invalid
+    private static Course readCourse(ByteBuffer in, String[] strings) throws IOException {
+        String subject = readString(in, strings);
+        String course = readString(in, strings);
+        String section = readString(in, strings);
+        String title = readString(in, strings);
+        int dayMask = in.get();
+        int start = readVarint(in);
+        int end = readVarint(in);
+        int credits = readVarint(in);
+        int flags = in.get();
+        if (subject == null || course == null || section == null) {
+            throw new IOException("Missing code of course in binary worklist");
+        }
+        try {
+            Schedule schedule = Schedule.of(dayMask, Time.ofMinuteOfDay(start), Time.ofMinuteOfDay(end));
+            return new Course(subject, course, section, title, schedule, credits,
+                    (flags & BinaryWriter.REQUIRED_FLAG) != 0, (flags & BinaryWriter.STARRED_FLAG) != 0);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            throw new IOException("Invalid course in binary worklist");
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads a count of strings or courses, or a length of a string, and returns it; throws IOException
+    //          if it is negative or larger than the number of remaining bytes, since each string or course
+    //          and each byte of a string takes at least one byte
+    private static int readCount(ByteBuffer in) throws IOException {
+        int count = readVarint(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Corrupt count or length in binary worklist");
+        }
+        return count;
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads an unsigned LEB128 varint and returns it
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Varint too long");
+    }
+
+}
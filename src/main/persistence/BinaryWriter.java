@@ -0,0 +1,129 @@
+package persistence;
+
+import model.Course;
+import model.Schedule;
+import model.Worklist;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents a writer that writes worklist to file in a compact binary form, read by BinaryReader.
+// Version 1 of the form is, with every integer an unsigned LEB128 varint unless noted:
+//   header:       the 4 bytes "CPWL", then the version as 1 byte
+//   string table: the number of strings, then each string as its UTF-8 length and bytes
+//   worklist:     the name, then the number of courses, then each course
+//   course:       the subject, course, section codes and title, the meeting days as 1 byte (bit 0 for
+//                 Monday), the starting and ending minutes of day, the credits, and 1 byte of flags
+//                 (bit 0 if required, bit 1 if starred)
+// where a string is written as 0 if it is null, or else 1 + its index in the string table, so that each
+// distinct code and title is stored once
+public class BinaryWriter {
+
+    static final byte[] MAGIC = {'C', 'P', 'W', 'L'};
+    static final int VERSION = 1;
+    static final int REQUIRED_FLAG = 1;
+    static final int STARRED_FLAG = 2;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private DataOutputStream out;
+    private String destination;
+
+    // EFFECTS: constructs a binary writer to write to destination file
+    public BinaryWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens writer, replacing any existing destination file;
+    //          throws IOException if destination file cannot be opened for writing
+    public void open() throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(Paths.get(destination)),
+                BUFFER_SIZE));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes binary representation of worklist to file;
+    //          throws IOException if an error occurs when writing to file
+    public void write(Worklist wl) throws IOException {
+        Map<String, Integer> refs = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        addString(wl.getName(), refs, strings);
+        for (Course c : wl.getCourses()) {
+            addString(c.getSubjectCode(), refs, strings);
+            addString(c.getCourseCode(), refs, strings);
+            addString(c.getSectionCode(), refs, strings);
+            addString(c.getTitle(), refs, strings);
+        }
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        writeVarint(strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            out.write(bytes);
+        }
+        writeVarint(toRef(wl.getName(), refs));
+        writeVarint(wl.getCourses().size());
+        for (Course c : wl.getCourses()) {
+            writeCourse(c, refs);
+        }
+        out.flush();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes writer; throws IOException if an error occurs when closing the file
+    public void close() throws IOException {
+        out.close();
+    }
+
+    // MODIFIES: refs, strings
+    // EFFECTS: adds s to the end of strings and maps it to its reference, 1 + its index, unless s is null or
+    //          already has a reference
+    private static void addString(String s, Map<String, Integer> refs, List<String> strings) {
+        if (s != null && !refs.containsKey(s)) {
+            strings.add(s);
+            refs.put(s, strings.size());
+        }
+    }
+
+    // EFFECTS: returns the reference of s in refs, or 0 if s is null
+    private static int toRef(String s, Map<String, Integer> refs) {
+        return s == null ? 0 : refs.get(s);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes binary representation of course, with strings as their references in refs
+    private void writeCourse(Course c, Map<String, Integer> refs) throws IOException {
+        writeVarint(toRef(c.getSubjectCode(), refs));
+        writeVarint(toRef(c.getCourseCode(), refs));
+        writeVarint(toRef(c.getSectionCode(), refs));
+        writeVarint(toRef(c.getTitle(), refs));
+        Schedule s = c.getSchedule();
+        out.writeByte(s.getDayMask());
+        writeVarint(s.getStartMinute());
+        writeVarint(s.getEndMinute());
+        writeVarint(c.getCredits());
+        out.writeByte((c.isRequired() ? REQUIRED_FLAG : 0) | (c.isStarred() ? STARRED_FLAG : 0));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes value as an unsigned LEB128 varint: 7 bits per byte, lowest first, with the high bit
+    //          set on all bytes but the last
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+}
@@ -0,0 +1,46 @@
+package persistence;
+
+import model.Course;
+import model.catalog.CourseCatalog;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Represents a reader that reads a term catalog of course sections from JSON data stored in file;
+// the sections are stored in the same form as the courses of a worklist
+public class CatalogReader {
+
+    private String source;
+
+    // EFFECTS: constructs a catalog reader to read from source file
+    public CatalogReader(String source) {
+        this.source = source;
+    }
+
+    // EFFECTS: reads catalog from file and returns it;
+    //          throws IOException if an error occurs when reading data from file
+    public CourseCatalog read() throws IOException {
+        String jsonData = JsonReader.readFile(source);
+        try {
+            return parseCatalog(new JSONObject(jsonData));
+        } catch (Exception e) {
+            throw new IOException();
+        }
+    }
+
+    // EFFECTS: parses catalog from JSON object and returns it;
+    //          throws Exception if JSON object is not a valid catalog
+    private CourseCatalog parseCatalog(JSONObject jsonObject) throws Exception {
+        String term = jsonObject.getString("term");
+        JSONArray jsonArray = jsonObject.getJSONArray("courses");
+        List<Course> sections = new ArrayList<>(jsonArray.length());
+        for (Object json : jsonArray) {
+            sections.add(JsonReader.parseCourse((JSONObject) json));
+        }
+        return new CourseCatalog(term, sections);
+    }
+
+}
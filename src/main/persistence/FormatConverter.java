@@ -0,0 +1,41 @@
+package persistence;
+
+import model.Worklist;
+
+import java.io.IOException;
+
+// Represents a converter of worklist files between the JSON form and the binary form
+public final class FormatConverter {
+
+    // EFFECTS: prevents instantiation
+    private FormatConverter() {
+    }
+
+    // EFFECTS: reads worklist from the JSON file jsonSource and writes it to the binary file
+    //          binaryDestination; throws IOException if an error occurs when reading or writing data
+    public static void toBinary(String jsonSource, String binaryDestination) throws IOException {
+        Worklist wl = new JsonStreamReader(jsonSource).read();
+        BinaryWriter writer = new BinaryWriter(binaryDestination);
+        writer.open();
+        try {
+            writer.write(wl);
+        } finally {
+            writer.close();
+        }
+    }
+
+    // EFFECTS: reads worklist from the binary file binarySource and writes it to the JSON file
+    //          jsonDestination, indented unless compact is true; throws IOException if an error occurs when
+    //          reading or writing data
+    public static void toJson(String binarySource, String jsonDestination, boolean compact) throws IOException {
+        Worklist wl = new BinaryReader(binarySource).read();
+        JsonStreamWriter writer = new JsonStreamWriter(jsonDestination, compact);
+        writer.open();
+        try {
+            writer.write(wl);
+        } finally {
+            writer.close();
+        }
+    }
+
+}
@@ -0,0 +1,198 @@
+package persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+// Represents an emitter of JSON text to a character stream, one token at a time, as the counterpart of
+// JsonTokenizer: commas, colons, and indentation are written as needed, so that a document of any size
+// is written without building it in memory
+public class JsonEmitter implements Closeable {
+
+    private Writer writer;
+    private int indent;
+
+    // Number of members or elements written in each enclosing object or array, and whether a member name
+    // has just been written
+    private int[] counts;
+    private int depth;
+    private boolean afterName;
+
+    // REQUIRES: indent >= 0
+    // EFFECTS: constructs an emitter to write JSON text to writer, indenting nested members and elements
+    //          by indent spaces on their own lines, or writing compact text on one line if indent is 0
+    public JsonEmitter(Writer writer, int indent) {
+        this.writer = writer;
+        this.indent = indent;
+        this.counts = new int[32];
+        this.depth = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the beginning of an object
+    public void beginObject() throws IOException {
+        begin('{');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the end of the current object
+    public void endObject() throws IOException {
+        end('}');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the beginning of an array
+    public void beginArray() throws IOException {
+        begin('[');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the end of the current array
+    public void endArray() throws IOException {
+        end(']');
+    }
+
+    // REQUIRES: the current value is an object
+    // MODIFIES: this
+    // EFFECTS: writes the name of the next member of the current object
+    public void name(String name) throws IOException {
+        beforeElement();
+        writeString(name);
+        writer.write(indent > 0 ? ": " : ":");
+        afterName = true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a string value, or null if value is null
+    public void value(String value) throws IOException {
+        beforeValue();
+        if (value == null) {
+            writer.write("null");
+        } else {
+            writeString(value);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a number value
+    public void value(int value) throws IOException {
+        beforeValue();
+        writer.write(Integer.toString(value));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a boolean value
+    public void value(boolean value) throws IOException {
+        beforeValue();
+        writer.write(value ? "true" : "false");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes any buffered text to the underlying writer
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the underlying writer
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes bracket, beginning an object or array
+    private void begin(char bracket) throws IOException {
+        beforeValue();
+        writer.write(bracket);
+        if (depth == counts.length) {
+            counts = Arrays.copyOf(counts, depth * 2);
+        }
+        counts[depth++] = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes bracket, ending the current object or array, on a new line if it is not empty
+    private void end(char bracket) throws IOException {
+        depth--;
+        if (counts[depth] > 0) {
+            newLine();
+        }
+        writer.write(bracket);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes what comes before a value: nothing after a member name, or else what comes before
+    //          an element of the current array
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+        } else if (depth > 0) {
+            beforeElement();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes what comes before a member or element of the current object or array: a comma unless
+    //          it is the first one, and a new line
+    private void beforeElement() throws IOException {
+        if (counts[depth - 1]++ > 0) {
+            writer.write(',');
+        }
+        newLine();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts a new line indented to the current depth, unless the text is compact
+    private void newLine() throws IOException {
+        if (indent > 0) {
+            writer.write('\n');
+            for (int i = 0; i < depth * indent; i++) {
+                writer.write(' ');
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes s as a quoted string, escaping quotes, backslashes, and control characters
+    private void writeString(String s) throws IOException {
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                writer.write(s, start, i - start);
+                writeEscape(c);
+                start = i + 1;
+            }
+        }
+        writer.write(s, start, s.length() - start);
+        writer.write('"');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the escape sequence of c
+    private void writeEscape(char c) throws IOException {
+        switch (c) {
+            case '\b':
+                writer.write("\\b");
+                break;
+            case '\f':
+                writer.write("\\f");
+                break;
+            case '\n':
+                writer.write("\\n");
+                break;
+            case '\r':
+                writer.write("\\r");
+                break;
+            case '\t':
+                writer.write("\\t");
+                break;
+            default:
+                writer.write(c < 0x20 ? String.format("\\u%04x", (int) c) : "\\" + c);
+        }
+    }
+
+}
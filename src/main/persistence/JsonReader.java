@@ -1,5 +1,7 @@
 package persistence;
 
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
 import model.Course;
 import model.Schedule;
 import model.Time;
@@ -11,6 +13,8 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 // Represents a reader that reads worklist from JSON data stored in file
@@ -35,7 +39,7 @@ public class JsonReader {
 
     // EFFECTS: reads source file as string and returns it;
     //          throws IOException if an error occurs when reading data from file
-    private String readFile(String source) throws IOException {
+    static String readFile(String source) throws IOException {
         StringBuilder contentBuilder = new StringBuilder();
 
         try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
@@ -55,46 +59,50 @@ public class JsonReader {
     }
 
     // MODIFIES: wl
-    // EFFECTS: parses courses from JSON object and adds them to worklist;
+    // EFFECTS: parses courses from JSON object and adds them to worklist in one batch;
     //          throws IOException if an error occurs when reading data from file
     private void addCourses(Worklist wl, JSONObject jsonObject) throws IOException {
-        JSONArray jsonArray = jsonObject.getJSONArray("courses");
-        for (Object json : jsonArray) {
-            JSONObject nextCourse = (JSONObject) json;
-            addCourse(wl, nextCourse);
-        }
-    }
-
-    // MODIFIES: wl
-    // EFFECTS: parses course from JSON object and adds it to worklist;
-    //          throws IOException if an error occurs when reading data from file
-    private void addCourse(Worklist wl, JSONObject jsonObject) throws IOException {
         try {
-            String subjectCode = jsonObject.getString("subjectCode");
-            String courseCode = jsonObject.getString("courseCode");
-            String sectionCode = jsonObject.getString("sectionCode");
-            String title = jsonObject.getString("title");
-
-            boolean[] days = new boolean[5];
-            for (int i = 0; i < 5; i++) {
-                days[i] = jsonObject.getJSONObject("schedule").getJSONArray("days").getBoolean(i);
+            JSONArray jsonArray = jsonObject.getJSONArray("courses");
+            List<Course> courses = new ArrayList<>(jsonArray.length());
+            for (Object json : jsonArray) {
+                courses.add(parseCourse((JSONObject) json));
             }
-            Time startTime = new Time(jsonObject.getJSONObject("schedule").getInt("startHour"),
-                    jsonObject.getJSONObject("schedule").getInt("startMinute"));
-            Time endTime = new Time(jsonObject.getJSONObject("schedule").getInt("endHour"),
-                    jsonObject.getJSONObject("schedule").getInt("endMinute"));
-
-            Schedule schedule = new Schedule(days, startTime, endTime);
-            int credits = jsonObject.getInt("credits");
-            boolean required = jsonObject.getBoolean("required");
-            boolean starred = jsonObject.getBoolean("starred");
-
-            Course course = new Course(subjectCode, courseCode, sectionCode,
-                    title, schedule, credits, required, starred);
-            wl.addCourse(course);
+            wl.addAll(courses);
         } catch (Exception e) {
             throw new IOException();
         }
     }
 
+    // EFFECTS: parses course from JSON object and returns it;
+    //          throws IllegalDaysException or IllegalTimeException if its schedule is invalid
+    static Course parseCourse(JSONObject jsonObject) throws IllegalDaysException, IllegalTimeException {
+        String subjectCode = jsonObject.getString("subjectCode");
+        String courseCode = jsonObject.getString("courseCode");
+        String sectionCode = jsonObject.getString("sectionCode");
+        String title = jsonObject.getString("title");
+
+        Schedule schedule = parseSchedule(jsonObject.getJSONObject("schedule"));
+        int credits = jsonObject.getInt("credits");
+        boolean required = jsonObject.getBoolean("required");
+        boolean starred = jsonObject.getBoolean("starred");
+
+        return new Course(subjectCode, courseCode, sectionCode,
+                title, schedule, credits, required, starred);
+    }
+
+    // EFFECTS: parses schedule from JSON object and returns the shared schedule of its pattern;
+    //          throws IllegalTimeException if a time in JSON object is invalid
+    private static Schedule parseSchedule(JSONObject jsonObject) throws IllegalDaysException, IllegalTimeException {
+        int dayMask = 0;
+        for (int i = 0; i < 5; i++) {
+            if (jsonObject.getJSONArray("days").getBoolean(i)) {
+                dayMask |= 1 << i;
+            }
+        }
+        Time startTime = Time.of(jsonObject.getInt("startHour"), jsonObject.getInt("startMinute"));
+        Time endTime = Time.of(jsonObject.getInt("endHour"), jsonObject.getInt("endMinute"));
+        return Schedule.of(dayMask, startTime, endTime);
+    }
+
 }
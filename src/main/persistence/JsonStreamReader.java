@@ -0,0 +1,202 @@
+package persistence;
+
+import exception.BatchAddException;
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.Schedule;
+import model.Time;
+import model.Weekday;
+import model.Worklist;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Represents a reader that reads worklist from JSON data stored in file, in the same form as JsonReader,
+// by pulling tokens from the file and building courses and schedules directly; members may come in any
+// order and unknown members are skipped, and no JSON document is built in memory
+public class JsonStreamReader {
+
+    // Names of the string members of a course, and of the time members of a schedule, in order
+    private static final List<String> COURSE_STRINGS = Arrays.asList("subjectCode", "courseCode", "sectionCode",
+            "title");
+    private static final List<String> SCHEDULE_TIMES = Arrays.asList("startHour", "startMinute", "endHour",
+            "endMinute");
+
+    // Value of a course member that has not been read
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    private String source;
+
+    // EFFECTS: constructs a JSON stream reader to read from source file
+    public JsonStreamReader(String source) {
+        this.source = source;
+    }
+
+    // EFFECTS: reads worklist from file and returns it, adding its courses in one batch;
+    //          throws IOException if an error occurs when reading data from file
+    public Worklist read() throws IOException {
+        List<Course> courses = new ArrayList<>();
+        String name = readWorklist(courses::add);
+        Worklist wl = new Worklist(name);
+        try {
+            wl.addAll(courses);
+        } catch (BatchAddException e) {
+            throw new IOException("Duplicate or conflicting courses in " + source);
+        }
+        return wl;
+    }
+
+    // EFFECTS: reads the courses of the worklist in file, one by one, and passes each of them to consumer
+    //          without keeping them, so that files of any size are read in constant memory;
+    //          throws IOException if an error occurs when reading data from file
+    public void forEachCourse(Consumer<Course> consumer) throws IOException {
+        readWorklist(consumer);
+    }
+
+    // EFFECTS: reads the worklist in file, passing each of its courses to consumer, and returns its name;
+    //          throws IOException if an error occurs when reading data from file
+    private String readWorklist(Consumer<Course> consumer) throws IOException {
+        try (JsonTokenizer tokenizer = new JsonTokenizer(
+                new InputStreamReader(Files.newInputStream(Paths.get(source)), StandardCharsets.UTF_8))) {
+            String name = readWorklistObject(tokenizer, consumer);
+            if (tokenizer.peek() != JsonTokenizer.Token.END_DOCUMENT) {
+                throw new IOException("Unexpected content after worklist in " + source);
+            }
+            return name;
+        }
+    }
+
+    // MODIFIES: tokenizer
+    // EFFECTS: reads a worklist object from tokenizer, passing each of its courses to consumer, and returns
+    //          its name; throws IOException if it is missing its name or courses
+    private static String readWorklistObject(JsonTokenizer tokenizer, Consumer<Course> consumer) throws IOException {
+        String name = null;
+        boolean hasCourses = false;
+        tokenizer.beginObject();
+        while (tokenizer.hasNext()) {
+            String member = tokenizer.nextName();
+            if (member.equals("name")) {
+                name = tokenizer.nextString();
+            } else if (member.equals("courses")) {
+                readCourses(tokenizer, consumer);
+                hasCourses = true;
+            } else {
+                tokenizer.skipValue();
+            }
+        }
+        tokenizer.endObject();
+        if (name == null || !hasCourses) {
+            throw new IOException("Missing name or courses of worklist");
+        }
+        return name;
+    }
+
+    // MODIFIES: tokenizer
+    // EFFECTS: reads an array of courses from tokenizer and passes each of them to consumer
+    private static void readCourses(JsonTokenizer tokenizer, Consumer<Course> consumer) throws IOException {
+        tokenizer.beginArray();
+        while (tokenizer.hasNext()) {
+            consumer.accept(readCourse(tokenizer));
+        }
+        tokenizer.endArray();
+    }
+
+    // MODIFIES: tokenizer
+    // EFFECTS: reads a course object from tokenizer and returns it;
+    //          throws IOException if it is missing a member or its schedule is invalid
+    static Course readCourse(JsonTokenizer tokenizer) throws IOException {
+        String[] strings = new String[COURSE_STRINGS.size()];
+        int[] values = {MISSING, MISSING, MISSING};
+        Schedule schedule = null;
+        tokenizer.beginObject();
+        while (tokenizer.hasNext()) {
+            String member = tokenizer.nextName();
+            int i = COURSE_STRINGS.indexOf(member);
+            if (i >= 0) {
+                strings[i] = tokenizer.nextString();
+            } else if (member.equals("schedule")) {
+                schedule = readSchedule(tokenizer);
+            } else {
+                readValue(tokenizer, member, values);
+            }
+        }
+        tokenizer.endObject();
+        boolean missing = Arrays.asList(strings).contains(null) || schedule == null;
+        if (missing || Arrays.stream(values).anyMatch(v -> v == MISSING)) {
+            throw new IOException("Missing member of course");
+        }
+        return new Course(strings[0], strings[1], strings[2], strings[3], schedule, values[0], values[1] == 1,
+                values[2] == 1);
+    }
+
+    // MODIFIES: tokenizer, values
+    // EFFECTS: reads the value of member from tokenizer into values: the credits into values[0], and
+    //          required and starred into values[1] and values[2], as 1 for true and 0 for false;
+    //          skips the value if member is none of them
+    private static void readValue(JsonTokenizer tokenizer, String member, int[] values) throws IOException {
+        if (member.equals("credits")) {
+            values[0] = tokenizer.nextInt();
+        } else if (member.equals("required")) {
+            values[1] = tokenizer.nextBoolean() ? 1 : 0;
+        } else if (member.equals("starred")) {
+            values[2] = tokenizer.nextBoolean() ? 1 : 0;
+        } else {
+            tokenizer.skipValue();
+        }
+    }
+
+    // MODIFIES: tokenizer
+    // EFFECTS: reads a schedule object from tokenizer and returns the shared schedule of its pattern;
+    //          throws IOException if it is missing a member or is invalid
+    private static Schedule readSchedule(JsonTokenizer tokenizer) throws IOException {
+        int dayMask = -1;
+        int[] times = {-1, -1, -1, -1};
+        tokenizer.beginObject();
+        while (tokenizer.hasNext()) {
+            String member = tokenizer.nextName();
+            int i = SCHEDULE_TIMES.indexOf(member);
+            if (i >= 0) {
+                times[i] = tokenizer.nextInt();
+            } else if (member.equals("days")) {
+                dayMask = readDays(tokenizer);
+            } else {
+                tokenizer.skipValue();
+            }
+        }
+        tokenizer.endObject();
+        try {
+            return Schedule.of(dayMask, Time.of(times[0], times[1]), Time.of(times[2], times[3]));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            throw new IOException("Invalid schedule");
+        }
+    }
+
+    // MODIFIES: tokenizer
+    // EFFECTS: reads an array of meeting days from tokenizer and returns them as a day mask;
+    //          throws IOException if it has fewer days than a week
+    private static int readDays(JsonTokenizer tokenizer) throws IOException {
+        int dayMask = 0;
+        int numDays = 0;
+        tokenizer.beginArray();
+        while (tokenizer.hasNext()) {
+            if (tokenizer.nextBoolean() && numDays < Weekday.values().length) {
+                dayMask |= 1 << numDays;
+            }
+            numDays++;
+        }
+        tokenizer.endArray();
+        if (numDays < Weekday.values().length) {
+            throw new IOException("Missing meeting days");
+        }
+        return dayMask;
+    }
+
+}
@@ -0,0 +1,118 @@
+package persistence;
+
+import model.Course;
+import model.Schedule;
+import model.Worklist;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Represents a writer that writes worklist to file in the same JSON form as JsonWriter, emitting each
+// course straight into a buffered file channel instead of building and printing a JSON document, so that
+// memory use does not grow with the worklist; the text is indented, or compact for files read by programs
+public class JsonStreamWriter {
+
+    private static final int TAB = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private String destination;
+    private boolean compact;
+    private JsonEmitter emitter;
+
+    // EFFECTS: constructs a JSON stream writer to write indented text to destination file
+    public JsonStreamWriter(String destination) {
+        this(destination, false);
+    }
+
+    // EFFECTS: constructs a JSON stream writer to write to destination file, as compact text on one line
+    //          if compact is true, or as indented text otherwise
+    public JsonStreamWriter(String destination, boolean compact) {
+        this.destination = destination;
+        this.compact = compact;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens writer, replacing any existing destination file;
+    //          throws IOException if destination file cannot be opened for writing
+    public void open() throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(destination), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), BUFFER_SIZE);
+        emitter = new JsonEmitter(writer, compact ? 0 : TAB);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes JSON representation of worklist to file;
+    //          throws IOException if an error occurs when writing to file
+    public void write(Worklist wl) throws IOException {
+        emitter.beginObject();
+        emitter.name("name");
+        emitter.value(wl.getName());
+        emitter.name("courses");
+        emitter.beginArray();
+        for (Course c : wl.getCourses()) {
+            writeCourse(emitter, c);
+        }
+        emitter.endArray();
+        emitter.endObject();
+        emitter.flush();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes writer; throws IOException if an error occurs when closing the file
+    public void close() throws IOException {
+        emitter.close();
+    }
+
+    // MODIFIES: emitter
+    // EFFECTS: writes JSON representation of course, with the members of Course.toJson
+    static void writeCourse(JsonEmitter emitter, Course course) throws IOException {
+        emitter.beginObject();
+        emitter.name("subjectCode");
+        emitter.value(course.getSubjectCode());
+        emitter.name("courseCode");
+        emitter.value(course.getCourseCode());
+        emitter.name("sectionCode");
+        emitter.value(course.getSectionCode());
+        emitter.name("title");
+        emitter.value(course.getTitle());
+        emitter.name("schedule");
+        writeSchedule(emitter, course.getSchedule());
+        emitter.name("credits");
+        emitter.value(course.getCredits());
+        emitter.name("required");
+        emitter.value(course.isRequired());
+        emitter.name("starred");
+        emitter.value(course.isStarred());
+        emitter.endObject();
+    }
+
+    // MODIFIES: emitter
+    // EFFECTS: writes JSON representation of schedule, with the members of Schedule.toJson
+    private static void writeSchedule(JsonEmitter emitter, Schedule schedule) throws IOException {
+        emitter.beginObject();
+        emitter.name("days");
+        emitter.beginArray();
+        for (boolean day : schedule.getDays()) {
+            emitter.value(day);
+        }
+        emitter.endArray();
+        emitter.name("startHour");
+        emitter.value(schedule.getStartTime().getHour());
+        emitter.name("startMinute");
+        emitter.value(schedule.getStartTime().getMinute());
+        emitter.name("endHour");
+        emitter.value(schedule.getEndTime().getHour());
+        emitter.name("endMinute");
+        emitter.value(schedule.getEndTime().getMinute());
+        emitter.endObject();
+    }
+
+}
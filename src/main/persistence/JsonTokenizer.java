@@ -0,0 +1,410 @@
+package persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+// Represents a pull tokenizer of JSON text read from a character stream: the caller asks for one token
+// at a time, and the text is read through a fixed buffer, so that a document of any size is parsed in
+// constant memory besides the names and values the caller keeps
+public class JsonTokenizer implements Closeable {
+
+    // Kinds of tokens
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    // States of an enclosing object or array, or of the whole document, kept on a stack
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private Reader reader;
+    private char[] buffer;
+    private int pos;
+    private int limit;
+    private long offset;
+
+    private int[] stack;
+    private int depth;
+
+    // Next token and its text, if it is a name or a scalar value; peeked is null if not read yet
+    private Token peeked;
+    private String peekedText;
+    private StringBuilder text;
+
+    // EFFECTS: constructs a tokenizer to read JSON text from reader
+    public JsonTokenizer(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.stack = new int[32];
+        this.depth = 1;
+        this.stack[0] = EMPTY_DOCUMENT;
+        this.text = new StringBuilder();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the kind of the next token without consuming it;
+    //          throws IOException if the text cannot be read or is not valid JSON
+    public Token peek() throws IOException {
+        if (peeked == null) {
+            peeked = readToken();
+        }
+        return peeked;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if the current object or array has another member or element;
+    //          throws IOException if the text cannot be read or is not valid JSON
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the beginning of an object;
+    //          throws IOException if the next token is not the beginning of an object
+    public void beginObject() throws IOException {
+        consume(Token.BEGIN_OBJECT);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the end of an object;
+    //          throws IOException if the next token is not the end of an object
+    public void endObject() throws IOException {
+        consume(Token.END_OBJECT);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the beginning of an array;
+    //          throws IOException if the next token is not the beginning of an array
+    public void beginArray() throws IOException {
+        consume(Token.BEGIN_ARRAY);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the end of an array;
+    //          throws IOException if the next token is not the end of an array
+    public void endArray() throws IOException {
+        consume(Token.END_ARRAY);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes a member name and returns it;
+    //          throws IOException if the next token is not a member name
+    public String nextName() throws IOException {
+        return consume(Token.NAME);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes a string value and returns it;
+    //          throws IOException if the next token is not a string
+    public String nextString() throws IOException {
+        return consume(Token.STRING);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes a number and returns it as an int;
+    //          throws IOException if the next token is not a number that is an int
+    public int nextInt() throws IOException {
+        String number = consume(Token.NUMBER);
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected an int but was " + number);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes a boolean value and returns it;
+    //          throws IOException if the next token is not true or false
+    public boolean nextBoolean() throws IOException {
+        return consume(Token.BOOLEAN).equals("true");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes a null value;
+    //          throws IOException if the next token is not null
+    public void nextNull() throws IOException {
+        consume(Token.NULL);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the next value, with all of its members or elements if it is an object or array;
+    //          throws IOException if the next token does not begin a value
+    public void skipValue() throws IOException {
+        int nesting = 0;
+        do {
+            Token token = peek();
+            if (token == Token.BEGIN_OBJECT || token == Token.BEGIN_ARRAY) {
+                nesting++;
+            } else if (nesting > 0 && (token == Token.END_OBJECT || token == Token.END_ARRAY)) {
+                nesting--;
+            } else if (nesting == 0 ? !isScalar(token) : token == Token.END_DOCUMENT) {
+                throw syntaxError("Expected a value but was " + token);
+            }
+            peeked = null;
+        } while (nesting > 0);
+    }
+
+    // EFFECTS: returns true if token is a string, number, boolean, or null
+    private static boolean isScalar(Token token) {
+        return token == Token.STRING || token == Token.NUMBER || token == Token.BOOLEAN || token == Token.NULL;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the underlying reader
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the next token and returns its text (null if it has none);
+    //          throws IOException if the next token is not of kind expected
+    private String consume(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError("Expected " + expected + " but was " + token);
+        }
+        peeked = null;
+        return peekedText;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the next token, as allowed by the state of the enclosing object, array, or document,
+    //          and updates the stack of states
+    private Token readToken() throws IOException {
+        int state = stack[depth - 1];
+        if (state == EMPTY_OBJECT || state == NONEMPTY_OBJECT) {
+            return readInObject(state == EMPTY_OBJECT);
+        } else if (state == EMPTY_ARRAY || state == NONEMPTY_ARRAY) {
+            return readInArray(state == EMPTY_ARRAY);
+        } else if (state == DANGLING_NAME) {
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("Expected ':'");
+            }
+            stack[depth - 1] = NONEMPTY_OBJECT;
+            return readValue(nextNonWhitespace());
+        }
+        int c = nextNonWhitespace();
+        if (state == NONEMPTY_DOCUMENT) {
+            if (c != -1) {
+                throw syntaxError("Expected the end of the document");
+            }
+            return Token.END_DOCUMENT;
+        }
+        stack[depth - 1] = NONEMPTY_DOCUMENT;
+        return readValue(c);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the end of the enclosing object or the name of its next member
+    private Token readInObject(boolean empty) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == '}') {
+            depth--;
+            return Token.END_OBJECT;
+        }
+        if (!empty) {
+            if (c != ',') {
+                throw syntaxError("Expected ',' or '}'");
+            }
+            c = nextNonWhitespace();
+        }
+        if (c != '"') {
+            throw syntaxError("Expected a member name");
+        }
+        stack[depth - 1] = DANGLING_NAME;
+        peekedText = readString();
+        return Token.NAME;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the end of the enclosing array or its next element
+    private Token readInArray(boolean empty) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == ']') {
+            depth--;
+            return Token.END_ARRAY;
+        }
+        if (!empty) {
+            if (c != ',') {
+                throw syntaxError("Expected ',' or ']'");
+            }
+            c = nextNonWhitespace();
+        }
+        stack[depth - 1] = NONEMPTY_ARRAY;
+        return readValue(c);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a value beginning with character c
+    private Token readValue(int c) throws IOException {
+        peekedText = null;
+        if (c == -1) {
+            throw syntaxError("Unexpected end of the document");
+        } else if (c == '{' || c == '[') {
+            push(c == '{' ? EMPTY_OBJECT : EMPTY_ARRAY);
+            return c == '{' ? Token.BEGIN_OBJECT : Token.BEGIN_ARRAY;
+        } else if (c == '"') {
+            peekedText = readString();
+            return Token.STRING;
+        }
+        pos--;
+        peekedText = readLiteral();
+        if (peekedText.equals("true") || peekedText.equals("false")) {
+            return Token.BOOLEAN;
+        } else if (peekedText.equals("null")) {
+            return Token.NULL;
+        } else if (!peekedText.isEmpty() && (peekedText.charAt(0) == '-' || isDigit(peekedText.charAt(0)))) {
+            return Token.NUMBER;
+        }
+        throw syntaxError("Expected a value");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: pushes state onto the stack, growing it if needed
+    private void push(int state) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = state;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the characters of a string after its opening quote, through its closing quote,
+    //          and returns the string with its escape sequences decoded
+    private String readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit && buffer[pos] != '"' && buffer[pos] != '\\') {
+                pos++;
+            }
+            text.append(buffer, start, pos - start);
+            int c = nextChar();
+            if (c == '"') {
+                return text.toString();
+            } else if (c == '\\') {
+                text.append(readEscape());
+            } else if (c == -1) {
+                throw syntaxError("Unterminated string");
+            } else {
+                text.append((char) c);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads an escape sequence after its backslash and returns the character it stands for
+    private char readEscape() throws IOException {
+        int c = nextChar();
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return readUnicode();
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the four hexadecimal digits of a unicode escape and returns the character they encode
+    private char readUnicode() throws IOException {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(nextChar(), 16);
+            if (digit < 0) {
+                throw syntaxError("Invalid unicode escape");
+            }
+            code = code * 16 + digit;
+        }
+        return (char) code;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the characters of a number or a literal, up to the next delimiter, and returns them
+    private String readLiteral() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit && isLiteralChar(buffer[pos])) {
+                pos++;
+            }
+            text.append(buffer, start, pos - start);
+            if (pos < limit || !fill()) {
+                return text.toString();
+            }
+        }
+    }
+
+    // EFFECTS: returns true if c may be part of a number or a literal
+    private static boolean isLiteralChar(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || c == '-' || c == '+' || c == '.' || c == 'E';
+    }
+
+    // EFFECTS: returns true if c is a decimal digit
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes whitespace and returns the next character after it, or -1 at the end of the text
+    private int nextNonWhitespace() throws IOException {
+        int c = nextChar();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            c = nextChar();
+        }
+        return c;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next character, or returns -1 at the end of the text
+    private int nextChar() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: refills the buffer from reader; returns false if there are no more characters
+    private boolean fill() throws IOException {
+        offset += limit;
+        pos = 0;
+        limit = 0;
+        int n = reader.read(buffer, 0, buffer.length);
+        while (n == 0) {
+            n = reader.read(buffer, 0, buffer.length);
+        }
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+
+    // EFFECTS: returns an IOException with message and the position in the text where it occurred
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at character " + (offset + pos));
+    }
+
+}
@@ -0,0 +1,245 @@
+package persistence;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.CourseKey;
+import model.Schedule;
+import model.Time;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Represents a read-only term catalog in a file written by MappedCatalogWriter, mapped into memory: opening
+// reads only the header, whatever the size of the catalog; fields of a section are read straight from its
+// fixed-width record and the string heap, and Course objects are built only when asked for. The mapping is
+// backed by the page cache, so processes on the same host that open the same file share its memory.
+// Opening checks only the header, so a record that refers to a string outside the heap is found when it is
+// read: the getters and indexOf then throw UncheckedIOException, and getSection throws IOException
+public class MappedCatalog {
+
+    private ByteBuffer buffer;
+    private int size;
+    private int heapOffset;
+    private String term;
+
+    // EFFECTS: opens the catalog in source file by mapping it into memory;
+    //          throws IOException if the file cannot be read or is not a supported version of the form
+    public MappedCatalog(String source) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(source), StandardOpenOption.READ)) {
+            if (channel.size() < MappedCatalogWriter.HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a mapped catalog: " + source);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        readHeader();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the header of the catalog; throws IOException if it is not a supported version of the
+    //          form, or if its records and heap do not fit in the file
+    private void readHeader() throws IOException {
+        byte[] magic = new byte[MappedCatalogWriter.MAGIC.length];
+        for (int i = 0; i < magic.length; i++) {
+            magic[i] = buffer.get(i);
+        }
+        if (!Arrays.equals(magic, MappedCatalogWriter.MAGIC) || buffer.getInt(4) != MappedCatalogWriter.VERSION) {
+            throw new IOException("Not a supported mapped catalog");
+        }
+        size = buffer.getInt(8);
+        heapOffset = buffer.getInt(12);
+        long heapEnd = (long) heapOffset + buffer.getInt(16);
+        long recordsEnd = MappedCatalogWriter.HEADER_SIZE + (long) size * MappedCatalogWriter.RECORD_SIZE;
+        if (size < 0 || heapOffset != recordsEnd || buffer.getInt(16) < 0 || heapEnd > buffer.capacity()) {
+            throw new IOException("Corrupt mapped catalog");
+        }
+        buffer.limit((int) heapEnd);
+        try {
+            term = readString(buffer.getInt(20));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // EFFECTS: returns the term of this catalog
+    public String getTerm() {
+        return term;
+    }
+
+    // EFFECTS: returns the number of sections in this catalog
+    public int size() {
+        return size;
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the subject code of section i
+    public String getSubjectCode(int i) {
+        return readString(buffer.getInt(recordOffset(i)));
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the course code of section i
+    public String getCourseCode(int i) {
+        return readString(buffer.getInt(recordOffset(i) + 4));
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the section code of section i
+    public String getSectionCode(int i) {
+        return readString(buffer.getInt(recordOffset(i) + 8));
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the title of section i, or null if it has none
+    public String getTitle(int i) {
+        int ref = buffer.getInt(recordOffset(i) + 12);
+        return ref < 0 ? null : readString(ref);
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the starting minute of day of section i
+    public int getStartMinute(int i) {
+        return buffer.getShort(recordOffset(i) + 16);
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the ending minute of day of section i
+    public int getEndMinute(int i) {
+        return buffer.getShort(recordOffset(i) + 18);
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the credits of section i
+    public int getCredits(int i) {
+        return buffer.getShort(recordOffset(i) + 20);
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: returns the meeting days of section i, with bit 0 for Monday
+    public int getDayMask(int i) {
+        return buffer.get(recordOffset(i) + 22);
+    }
+
+    // REQUIRES: 0 <= i < size()
+    // EFFECTS: builds and returns section i; throws IOException if its record is corrupt
+    public Course getSection(int i) throws IOException {
+        int flags = buffer.get(recordOffset(i) + 23);
+        try {
+            Schedule schedule = Schedule.of(getDayMask(i), Time.ofMinuteOfDay(getStartMinute(i)),
+                    Time.ofMinuteOfDay(getEndMinute(i)));
+            return new Course(getSubjectCode(i), getCourseCode(i), getSectionCode(i), getTitle(i), schedule,
+                    getCredits(i), (flags & MappedCatalogWriter.REQUIRED_FLAG) != 0,
+                    (flags & MappedCatalogWriter.STARRED_FLAG) != 0);
+        } catch (IllegalDaysException | IllegalTimeException | UncheckedIOException e) {
+            throw new IOException("Corrupt record " + i + " in mapped catalog");
+        }
+    }
+
+    // EFFECTS: returns the section with the codes of key, built from its record, or null if there is none;
+    //          throws IOException if its record, or a record compared in the search, is corrupt
+    public Course getSection(CourseKey key) throws IOException {
+        int i;
+        try {
+            i = indexOf(key);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return i < 0 ? null : getSection(i);
+    }
+
+    // EFFECTS: returns the record number of the section with the codes of key, or -1 if there is none;
+    //          the records are binary searched by comparing the encoded codes with the heap bytes in place;
+    //          throws UncheckedIOException if a record compared refers to a string outside the heap
+    public int indexOf(CourseKey key) {
+        byte[][] codes = {key.getSubjectCode().getBytes(StandardCharsets.UTF_8),
+                key.getCourseCode().getBytes(StandardCharsets.UTF_8),
+                key.getSectionCode().getBytes(StandardCharsets.UTF_8)};
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int result = compareRecord(mid, codes);
+            if (result < 0) {
+                lo = mid + 1;
+            } else if (result > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // EFFECTS: compares the codes of record i with codes, as UTF-8 bytes
+    private int compareRecord(int i, byte[][] codes) {
+        for (int k = 0; k < codes.length; k++) {
+            int result = compareString(buffer.getInt(recordOffset(i) + 4 * k), codes[k]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    // EFFECTS: compares the string at offset ref of the heap with bytes, as unsigned bytes
+    private int compareString(int ref, byte[] bytes) {
+        int at = stringPosition(ref);
+        int length = stringLength(at);
+        for (int k = 0; k < length && k < bytes.length; k++) {
+            int result = Integer.compare(buffer.get(at + 2 + k) & 0xFF, bytes[k] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(length, bytes.length);
+    }
+
+    // EFFECTS: compares b1 with b2 as strings of unsigned bytes
+    static int compare(byte[] b1, byte[] b2) {
+        for (int k = 0; k < b1.length && k < b2.length; k++) {
+            int result = Integer.compare(b1[k] & 0xFF, b2[k] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(b1.length, b2.length);
+    }
+
+    // EFFECTS: returns the string at offset ref of the heap
+    private String readString(int ref) {
+        int at = stringPosition(ref);
+        byte[] bytes = new byte[stringLength(at)];
+        for (int k = 0; k < bytes.length; k++) {
+            bytes[k] = buffer.get(at + 2 + k);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // EFFECTS: returns the position in the buffer of the string at offset ref of the heap;
+    //          throws UncheckedIOException if the string does not lie within the heap
+    private int stringPosition(int ref) {
+        long at = (long) heapOffset + ref;
+        if (ref < 0 || at + 2 > buffer.limit() || at + 2 + stringLength((int) at) > buffer.limit()) {
+            throw new UncheckedIOException(new IOException("Corrupt string reference " + ref + " in mapped catalog"));
+        }
+        return (int) at;
+    }
+
+    // EFFECTS: returns the length of the string at position at of the buffer
+    private int stringLength(int at) {
+        return buffer.getShort(at) & 0xFFFF;
+    }
+
+    // EFFECTS: returns the position of record i in the buffer
+    private static int recordOffset(int i) {
+        return MappedCatalogWriter.HEADER_SIZE + i * MappedCatalogWriter.RECORD_SIZE;
+    }
+
+}
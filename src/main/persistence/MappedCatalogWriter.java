@@ -0,0 +1,143 @@
+package persistence;
+
+import model.Course;
+import model.catalog.CourseCatalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+// Represents a writer that writes a term catalog to file in a form that MappedCatalog maps into memory.
+// Version 1 of the form is, with every integer little-endian:
+//   header:  the 4 bytes "CPMC", then as 4-byte integers the version, the number of records, the offset of
+//            the string heap, its length, and the offset of the term in the heap, padded to HEADER_SIZE
+//   records: one record of RECORD_SIZE bytes per section, sorted by their codes as UTF-8 bytes: the heap
+//            offsets of the subject, course, section codes and title (-1 if null) as 4-byte integers,
+//            the starting and ending minutes of day and the credits as 2-byte integers, the meeting days
+//            as 1 byte (bit 0 for Monday), and 1 byte of flags (bit 0 if required, bit 1 if starred)
+//   heap:    each distinct string once, as its UTF-8 length in 2 bytes followed by its bytes
+public class MappedCatalogWriter {
+
+    static final byte[] MAGIC = {'C', 'P', 'M', 'C'};
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 24;
+    static final int REQUIRED_FLAG = 1;
+    static final int STARRED_FLAG = 2;
+
+    // Order of sections by their codes as UTF-8 bytes, the order of records
+    static final Comparator<Course> RECORD_ORDER = Comparator
+            .comparing((Course c) -> c.getSubjectCode().getBytes(StandardCharsets.UTF_8), MappedCatalog::compare)
+            .thenComparing(c -> c.getCourseCode().getBytes(StandardCharsets.UTF_8), MappedCatalog::compare)
+            .thenComparing(c -> c.getSectionCode().getBytes(StandardCharsets.UTF_8), MappedCatalog::compare);
+
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+
+    private String destination;
+    private FileChannel channel;
+
+    // EFFECTS: constructs a mapped catalog writer to write to destination file
+    public MappedCatalogWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens writer, replacing any existing destination file;
+    //          throws IOException if destination file cannot be opened for writing
+    public void open() throws IOException {
+        channel = FileChannel.open(Paths.get(destination), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes catalog to file; throws IOException if an error occurs when writing to file, or if
+    //          a code or title is longer than 65535 bytes in UTF-8
+    public void write(CourseCatalog catalog) throws IOException {
+        Course[] sections = catalog.getSections().toArray(new Course[0]);
+        Arrays.sort(sections, RECORD_ORDER);
+        Heap heap = new Heap();
+        int termRef = heap.add(catalog.getTerm());
+        ByteBuffer records = ByteBuffer.allocate(sections.length * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (Course c : sections) {
+            writeRecord(records, c, heap);
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putInt(VERSION).putInt(sections.length).putInt(HEADER_SIZE + records.capacity())
+                .putInt(heap.size()).putInt(termRef);
+        header.rewind();
+        records.flip();
+        ByteBuffer strings = ByteBuffer.wrap(heap.bytes, 0, heap.size());
+        while (header.hasRemaining() || records.hasRemaining() || strings.hasRemaining()) {
+            channel.write(new ByteBuffer[] {header, records, strings});
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes writer; throws IOException if an error occurs when closing the file
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // MODIFIES: records, heap
+    // EFFECTS: puts the record of course into records, adding its strings to heap;
+    //          throws IOException if the credits of course do not fit in a short
+    private static void writeRecord(ByteBuffer records, Course c, Heap heap) throws IOException {
+        if (c.getCredits() < Short.MIN_VALUE || c.getCredits() > Short.MAX_VALUE) {
+            throw new IOException("Credits out of range for a mapped catalog");
+        }
+        records.putInt(heap.add(c.getSubjectCode()));
+        records.putInt(heap.add(c.getCourseCode()));
+        records.putInt(heap.add(c.getSectionCode()));
+        records.putInt(c.getTitle() == null ? -1 : heap.add(c.getTitle()));
+        records.putShort((short) c.getSchedule().getStartMinute());
+        records.putShort((short) c.getSchedule().getEndMinute());
+        records.putShort((short) c.getCredits());
+        records.put((byte) c.getSchedule().getDayMask());
+        records.put((byte) ((c.isRequired() ? REQUIRED_FLAG : 0) | (c.isStarred() ? STARRED_FLAG : 0)));
+    }
+
+    // Represents a growing heap of distinct strings, each stored once with its length
+    private static class Heap {
+        private byte[] bytes = new byte[1024];
+        private int size;
+        private Map<String, Integer> offsets = new HashMap<>();
+
+        // EFFECTS: returns the number of bytes in this heap
+        int size() {
+            return size;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: adds s to this heap unless it is already there, and returns its offset;
+        //          throws IOException if s is longer than 65535 bytes in UTF-8
+        int add(String s) throws IOException {
+            Integer offset = offsets.get(s);
+            if (offset != null) {
+                return offset;
+            }
+            byte[] encoded = s.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > MAX_STRING_LENGTH) {
+                throw new IOException("String too long for a mapped catalog");
+            }
+            if (size + 2 + encoded.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 2 + encoded.length));
+            }
+            offset = size;
+            bytes[offset] = (byte) encoded.length;
+            bytes[offset + 1] = (byte) (encoded.length >>> 8);
+            System.arraycopy(encoded, 0, bytes, offset + 2, encoded.length);
+            offsets.put(s, offset);
+            size += 2 + encoded.length;
+            return offset;
+        }
+    }
+
+}
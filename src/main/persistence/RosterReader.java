@@ -0,0 +1,42 @@
+package persistence;
+
+import model.Worklist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Represents a reader that reads the worklists of a group, e.g. a course roster, from many JSON files
+// in parallel
+public class RosterReader {
+
+    private List<String> sources;
+
+    // EFFECTS: constructs a roster reader to read from the source files
+    public RosterReader(List<String> sources) {
+        this.sources = new ArrayList<>(sources);
+    }
+
+    // EFFECTS: reads the worklists from all source files, in parallel, and returns them in the order of
+    //          the source files; throws IOException if an error occurs when reading data from any file
+    public List<Worklist> read() throws IOException {
+        try {
+            return sources.parallelStream().map(RosterReader::readWorklist).collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // EFFECTS: reads worklist from source file and returns it;
+    //          throws UncheckedIOException if an error occurs when reading data from file
+    private static Worklist readWorklist(String source) {
+        try {
+            return new JsonStreamReader(source).read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,381 @@
+package persistence;
+
+import exception.CourseAlreadyExistsException;
+import exception.CourseConflictsException;
+import exception.CourseNotFoundException;
+import model.Course;
+import model.CourseKey;
+import model.Worklist;
+import model.WorklistListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+// Represents a journal that saves a worklist as a snapshot file, in the same JSON form as JsonStreamWriter,
+// and a journal file of the changes made since the snapshot, so that saving costs O(changes) instead of
+// O(courses). The journal has one compact JSON record per line: a header with the CRC-32 of the snapshot it
+// follows, then one record per change, e.g.
+//   {"op":"snapshot","checksum":"8f3a01c2"}
+//   {"op":"add","course":{...}}
+//   {"op":"star","subjectCode":"CPSC","courseCode":"210","sectionCode":"101"}
+// with op one of add, delete, require, unrequire, star, and unstar. Once the journal has more records than
+// the compaction threshold, the next save writes a new snapshot and starts a new journal; both are written
+// to temporary files and moved into place, and a journal whose header does not match the snapshot is
+// ignored, so that a save interrupted at any point leaves files that load to a saved state
+public class WorklistJournal implements WorklistListener {
+
+    public static final int COMPACT_THRESHOLD = 1000;
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String SNAPSHOT = "snapshot";
+    private static final String ADD = "add";
+    private static final String DELETE = "delete";
+    private static final String REQUIRE = "require";
+    private static final String UNREQUIRE = "unrequire";
+    private static final String STAR = "star";
+    private static final String UNSTAR = "unstar";
+
+    // Names of the code members of a record, in order
+    private static final List<String> CODES = Arrays.asList("subjectCode", "courseCode", "sectionCode");
+
+    private String snapshotPath;
+    private String journalPath;
+    private int compactThreshold;
+
+    // The worklist whose changes are recorded, or null if none has been loaded or saved yet;
+    // the records of its changes not yet saved; the number of change records in the journal file;
+    // and whether the next save has to write a snapshot because the files do not hold worklist
+    private Worklist worklist;
+    private List<String> pending;
+    private int numRecords;
+    private boolean needsSnapshot;
+
+    // EFFECTS: constructs a journal to save to the snapshot and journal files, compacting the journal
+    //          once it has more than COMPACT_THRESHOLD records
+    public WorklistJournal(String snapshotPath, String journalPath) {
+        this(snapshotPath, journalPath, COMPACT_THRESHOLD);
+    }
+
+    // REQUIRES: compactThreshold >= 0
+    // EFFECTS: constructs a journal to save to the snapshot and journal files, compacting the journal
+    //          once it has more than compactThreshold records
+    public WorklistJournal(String snapshotPath, String journalPath, int compactThreshold) {
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPath;
+        this.compactThreshold = compactThreshold;
+        this.pending = new ArrayList<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads worklist from the snapshot file, replays the changes in the journal file on it, and
+    //          returns it, recording its later changes; ignores a journal that is missing or does not follow
+    //          the snapshot, and every record from the first one that is cut short, invalid, or cannot be
+    //          replayed, in which case the next save writes a snapshot;
+    //          throws IOException if an error occurs when reading data from file
+    public Worklist load() throws IOException {
+        Worklist wl = new JsonStreamReader(snapshotPath).read();
+        int replayed = replay(wl, checksum(Paths.get(snapshotPath)));
+        attach(wl);
+        numRecords = Math.max(replayed, 0);
+        needsSnapshot = replayed < 0;
+        return wl;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves wl, appending the records of its changes since the last save to the journal file, or
+    //          writing a new snapshot and journal if wl is not the worklist last loaded or saved, or if the
+    //          journal would grow past the compaction threshold; throws IOException if an error occurs when
+    //          writing to file
+    public void save(Worklist wl) throws IOException {
+        if (wl != worklist) {
+            attach(wl);
+        }
+        if (needsSnapshot || numRecords + pending.size() > compactThreshold) {
+            compact();
+        } else if (!pending.isEmpty()) {
+            append();
+        }
+    }
+
+    // EFFECTS: returns the number of change records in the journal file
+    public int getNumRecords() {
+        return numRecords;
+    }
+
+    // EFFECTS: returns the number of changes recorded since the last save
+    public int getNumPending() {
+        return pending.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the addition of course
+    @Override
+    public void courseAdded(Course course) {
+        addRecord(ADD, course);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the deletion of course
+    @Override
+    public void courseDeleted(Course course) {
+        addRecord(DELETE, course);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records course being set to required or not
+    @Override
+    public void requiredChanged(Course course, boolean required) {
+        addRecord(required ? REQUIRE : UNREQUIRE, course);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the starring of course
+    @Override
+    public void courseStarred(Course course) {
+        addRecord(STAR, course);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the unstarring of course
+    @Override
+    public void courseUnstarred(Course course) {
+        addRecord(UNSTAR, course);
+    }
+
+    // MODIFIES: this, wl
+    // EFFECTS: stops recording the changes of the current worklist, if any, and starts recording the
+    //          changes of wl, which the files do not hold yet
+    private void attach(Worklist wl) {
+        if (worklist != null) {
+            worklist.removeListener(this);
+        }
+        worklist = wl;
+        worklist.addListener(this);
+        pending.clear();
+        numRecords = 0;
+        needsSnapshot = true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a record of op on course to pending, with the whole course if op is ADD, or else with
+    //          its codes
+    private void addRecord(String op, Course course) {
+        StringWriter text = new StringWriter();
+        try (JsonEmitter emitter = new JsonEmitter(text, 0)) {
+            emitter.beginObject();
+            emitter.name("op");
+            emitter.value(op);
+            if (op.equals(ADD)) {
+                emitter.name("course");
+                JsonStreamWriter.writeCourse(emitter, course);
+            } else {
+                String[] codes = {course.getSubjectCode(), course.getCourseCode(), course.getSectionCode()};
+                for (int i = 0; i < codes.length; i++) {
+                    emitter.name(CODES.get(i));
+                    emitter.value(codes[i]);
+                }
+            }
+            emitter.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pending.add(text.toString());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the pending records to the journal file, one per line, and clears them;
+    //          throws IOException if an error occurs when writing to file, in which case the next save
+    //          writes a snapshot
+    private void append() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String record : pending) {
+            text.append(record).append('\n');
+        }
+        try {
+            Files.write(Paths.get(journalPath), text.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The journal may now end in part of a record, so the next save must start a new one
+            needsSnapshot = true;
+            throw e;
+        }
+        numRecords += pending.size();
+        pending.clear();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes worklist to a new snapshot file and starts a new journal file with only a header,
+    //          replacing the old files, and clears the pending records;
+    //          throws IOException if an error occurs when writing to file
+    private void compact() throws IOException {
+        Path snapshotTemp = Paths.get(snapshotPath + TEMP_SUFFIX);
+        Path journalTemp = Paths.get(journalPath + TEMP_SUFFIX);
+        JsonStreamWriter writer = new JsonStreamWriter(snapshotTemp.toString());
+        writer.open();
+        try {
+            writer.write(worklist);
+        } finally {
+            writer.close();
+        }
+        String header = "{\"op\":\"" + SNAPSHOT + "\",\"checksum\":\"" + checksum(snapshotTemp) + "\"}\n";
+        Files.write(journalTemp, header.getBytes(StandardCharsets.UTF_8));
+        Files.move(snapshotTemp, Paths.get(snapshotPath), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        Files.move(journalTemp, Paths.get(journalPath), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        numRecords = 0;
+        pending.clear();
+        needsSnapshot = false;
+    }
+
+    // MODIFIES: wl
+    // EFFECTS: replays the change records of the journal file on wl and returns their number, if the
+    //          journal's header has the given snapshot checksum; returns -1 if the journal is missing or does
+    //          not follow the snapshot, or if a record is cut short, invalid, or cannot be replayed, in which
+    //          case only the records before it are replayed;
+    //          throws IOException if an error occurs when reading data from file
+    private int replay(Worklist wl, String checksum) throws IOException {
+        Path path = Paths.get(journalPath);
+        if (!Files.exists(path)) {
+            return -1;
+        }
+        String[] lines = new String(Files.readAllBytes(path), StandardCharsets.UTF_8).split("\n", -1);
+        int numComplete = lines.length - 1;
+        if (numComplete == 0 || !checksum.equals(readChecksum(lines[0]))) {
+            return -1;
+        }
+        for (int i = 1; i < numComplete; i++) {
+            try {
+                apply(wl, readRecord(lines[i]));
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+        return lines[numComplete].isEmpty() ? numComplete - 1 : -1;
+    }
+
+    // EFFECTS: returns the snapshot checksum of the header on line, or null if line is not a valid header
+    private static String readChecksum(String line) {
+        try {
+            return readRecord(line).checksum;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // MODIFIES: wl
+    // EFFECTS: applies the change of record to wl;
+    //          throws IOException if record is missing a member, or its change cannot be applied to wl
+    private static void apply(Worklist wl, Record record) throws IOException {
+        try {
+            if (record.op.equals(ADD) && record.course != null) {
+                wl.addCourse(record.course);
+                return;
+            }
+            if (Arrays.asList(record.codes).contains(null)) {
+                throw new IOException("Missing member of journal record: " + record.op);
+            }
+            Course course = new Course(CourseKey.of(record.codes[0], record.codes[1], record.codes[2]));
+            applyChange(wl, record.op, course);
+        } catch (CourseAlreadyExistsException | CourseConflictsException | CourseNotFoundException e) {
+            throw new IOException("Journal record cannot be replayed: " + record.op);
+        }
+    }
+
+    // MODIFIES: wl
+    // EFFECTS: applies op, other than ADD, to the course in wl with the codes of course;
+    //          throws CourseNotFoundException if wl does not contain course, and IOException if op is unknown
+    private static void applyChange(Worklist wl, String op, Course course)
+            throws CourseNotFoundException, IOException {
+        switch (op) {
+            case DELETE:
+                wl.deleteCourse(course);
+                break;
+            case REQUIRE:
+            case UNREQUIRE:
+                wl.setRequired(course, op.equals(REQUIRE));
+                break;
+            case STAR:
+                wl.starCourse(course);
+                break;
+            case UNSTAR:
+                wl.unstarCourse(course);
+                break;
+            default:
+                throw new IOException("Unknown journal record: " + op);
+        }
+    }
+
+    // EFFECTS: reads the record on line and returns it; members may come in any order and unknown members
+    //          are skipped; throws IOException if line is not a single JSON object with an op
+    private static Record readRecord(String line) throws IOException {
+        Record record = new Record();
+        try (JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(line))) {
+            tokenizer.beginObject();
+            while (tokenizer.hasNext()) {
+                readMember(tokenizer, tokenizer.nextName(), record);
+            }
+            tokenizer.endObject();
+            if (record.op == null || tokenizer.peek() != JsonTokenizer.Token.END_DOCUMENT) {
+                throw new IOException("Invalid journal record: " + line);
+            }
+        }
+        return record;
+    }
+
+    // MODIFIES: tokenizer, record
+    // EFFECTS: reads the value of member from tokenizer into record, or skips it if it is not a member of
+    //          records
+    private static void readMember(JsonTokenizer tokenizer, String member, Record record) throws IOException {
+        int i = CODES.indexOf(member);
+        if (i >= 0) {
+            record.codes[i] = tokenizer.nextString();
+        } else if (member.equals("op")) {
+            record.op = tokenizer.nextString();
+        } else if (member.equals("course")) {
+            record.course = JsonStreamReader.readCourse(tokenizer);
+        } else if (member.equals("checksum")) {
+            record.checksum = tokenizer.nextString();
+        } else {
+            tokenizer.skipValue();
+        }
+    }
+
+    // EFFECTS: returns the CRC-32 of the contents of file at path, in hexadecimal;
+    //          throws IOException if an error occurs when reading data from file
+    private static String checksum(Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(path), crc)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (in.read(buffer) >= 0) {
+                continue;
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    // Represents a record of the journal file, with the members it has read, or null for missing members
+    private static class Record {
+        private String op;
+        private Course course;
+        private String[] codes = new String[CODES.size()];
+        private String checksum;
+    }
+
+}
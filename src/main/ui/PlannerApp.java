@@ -5,12 +5,12 @@ import model.Course;
 import model.Schedule;
 import model.Time;
 import model.Worklist;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.WorklistJournal;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
 import java.util.Scanner;
+import java.util.StringJoiner;
 
 // Represents the course planner application to manage worklist
 // Note: The UI functionality is adjusted from TellerApp.java; Linked below:
@@ -20,6 +20,9 @@ public class PlannerApp {
     // Path of JSON file for loading and saving worklist
     private static final String JSON_STORE = "./data/worklist.json";
 
+    // Path of the journal of changes made to worklist since it was last saved in full to JSON_STORE
+    private static final String JOURNAL_STORE = "./data/worklist.journal";
+
     // Temporary course information for adding a new course
     private Course tempCourse;
     private Schedule tempSchedule;
@@ -35,16 +38,14 @@ public class PlannerApp {
 
     private Worklist worklist;
     private Scanner input;
-    private JsonReader jsonReader;
-    private JsonWriter jsonWriter;
+    private WorklistJournal journal;
 
-    // EFFECTS: initializes scanner, JSON reader, JSON writer, and a new worklist, then
+    // EFFECTS: initializes scanner, worklist journal, and a new worklist, then
     //          runs the course planner application
     public PlannerApp() {
         worklist = new Worklist("New Worklist");
         input = new Scanner(System.in);
-        jsonReader = new JsonReader(JSON_STORE);
-        jsonWriter = new JsonWriter(JSON_STORE);
+        journal = new WorklistJournal(JSON_STORE, JOURNAL_STORE);
         runPlannerApp();
     }
 
@@ -227,9 +228,19 @@ public class PlannerApp {
             System.err.println("[ERROR] Course adding failed! "
                     + tempCourse.getSubjectCourseCode() + " is already in worklist.");
         } catch (CourseConflictsException e) {
-            System.err.println("[ERROR] Course adding failed! "
-                    + tempCourse.getSubjectCourseCode() + " conflicts with an existing course.");
+            System.err.println("[ERROR] Course adding failed! " + tempCourse.getSubjectCourseCode()
+                    + " conflicts with " + getCodesString(e.getConflictingCourses()) + ".");
+        }
+    }
+
+    // EFFECTS: returns the subject and course codes of courses separated by commas,
+    //          e.g., "CPSC 210, MATH 200"
+    private String getCodesString(List<Course> courses) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Course c : courses) {
+            joiner.add(c.getSubjectCourseCode());
         }
+        return joiner.toString();
     }
 
     // MODIFIES: this
@@ -282,7 +293,7 @@ public class PlannerApp {
         try {
             int hour = Time.parseHour(time);
             int minute = Time.parseMinute(time);
-            tempStartTime = new Time(hour, minute);
+            tempStartTime = Time.of(hour, minute);
         } catch (IllegalTimeException e) {
             System.err.println("[ERROR] Invalid time! Please enter again.");
             loadStartTime();
@@ -298,7 +309,7 @@ public class PlannerApp {
         try {
             int hour = Time.parseHour(time);
             int minute = Time.parseMinute(time);
-            tempEndTime = new Time(hour, minute);
+            tempEndTime = Time.of(hour, minute);
         } catch (IllegalTimeException e) {
             System.err.println("[ERROR] Invalid time! Please enter again");
             loadEndTime();
@@ -309,7 +320,7 @@ public class PlannerApp {
     // EFFECTS: loads schedule of course from temporary values
     private void loadSchedule() {
         try {
-            tempSchedule = new Schedule(tempDays, tempStartTime, tempEndTime);
+            tempSchedule = Schedule.of(tempDays, tempStartTime, tempEndTime);
         } catch (Exception e) {
             System.err.println("[ERROR] Failed to create a course schedule! Please check your input and try again.");
         }
@@ -454,24 +465,22 @@ public class PlannerApp {
     }
 
     // MODIFIES: this
-    // EFFECTS: loads worklist from file
+    // EFFECTS: loads worklist from file, replaying the changes in the journal
     private void loadWorklist() {
         try {
-            worklist = jsonReader.read();
+            worklist = journal.load();
             System.out.println("\nWorklist <" + worklist.getName() + "> has been loaded from " + JSON_STORE);
         } catch (IOException e) {
             System.err.println("[ERROR] Unable to read from file: " + JSON_STORE);
         }
     }
 
-    // EFFECTS: saves worklist to file
+    // EFFECTS: saves worklist to file, appending only its changes since the last save to the journal
     private void saveWorklist() {
         try {
-            jsonWriter.open();
-            jsonWriter.write(worklist);
-            jsonWriter.close();
+            journal.save(worklist);
             System.out.println("\nWorklist <" + worklist.getName() + "> has been saved to " + JSON_STORE);
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             System.err.println("[ERROR] Unable to write to file: " + JSON_STORE);
         }
     }
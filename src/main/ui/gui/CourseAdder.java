@@ -2,8 +2,10 @@ package ui.gui;
 
 import exception.IllegalDaysException;
 import exception.IllegalTimeException;
+import model.Course;
 import model.Schedule;
 import model.Time;
+import model.catalog.PrefixIndex;
 
 import javax.swing.*;
 import java.awt.*;
@@ -13,7 +15,12 @@ import static ui.gui.FontManager.setFonts;
 // Represents the popup window for adding a course
 public class CourseAdder extends JPanel {
 
+    // Index of catalog sections for type-ahead suggestions, or null if no catalog is available
+    private PrefixIndex catalogIndex;
+
     // Graphical components
+    private JPanel searchPanel;
+    private JTextField searchInputTextField;
     private JPanel upperInputPanel;
     private JPanel lowerInputPanel;
     private JTextField subjectInputTextField;
@@ -33,6 +40,13 @@ public class CourseAdder extends JPanel {
 
     // EFFECTS: constructs a new window for adding a course
     public CourseAdder() {
+        this(null);
+    }
+
+    // EFFECTS: constructs a new window for adding a course, with a search field suggesting sections
+    //          from catalogIndex as the user types; no search field is shown if catalogIndex is null
+    public CourseAdder(PrefixIndex catalogIndex) {
+        this.catalogIndex = catalogIndex;
         setFonts();
         setLayout(new BorderLayout());
         initComponents();
@@ -42,10 +56,44 @@ public class CourseAdder extends JPanel {
     // MODIFIES: this
     // EFFECTS: initializes all components of this window
     private void initComponents() {
+        initSearchPanel();
         initUpperInputPanel();
         initLowerInputPanel();
     }
 
+    // MODIFIES: this
+    // EFFECTS: initializes the search panel, whose field suggests catalog sections as the user types
+    //          and fills in all fields with the chosen section; does nothing if there is no catalog
+    private void initSearchPanel() {
+        searchPanel = new JPanel(new BorderLayout());
+        if (catalogIndex == null) {
+            return;
+        }
+        searchInputTextField = new JTextField(10);
+        new CourseSuggester(searchInputTextField, catalogIndex, this::fillFields);
+        searchPanel.add(createInputPanel("Search catalog (e.g. CPSC 2): ", searchInputTextField),
+                BorderLayout.CENTER);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fills in all fields with the codes, title, credits, and schedule of course
+    private void fillFields(Course course) {
+        subjectInputTextField.setText(course.getSubjectCode());
+        courseInputTextField.setText(course.getCourseCode());
+        sectionInputTextField.setText(course.getSectionCode());
+        titleInputTextField.setText(course.getTitle());
+        creditInputTextField.setText(String.valueOf(course.getCredits()));
+        Schedule schedule = course.getSchedule();
+        startTimeInputTextField.setText(schedule.getStartTime().toString());
+        endTimeInputTextField.setText(schedule.getEndTime().toString());
+        JCheckBox[] dayCheckBoxes = {monCheckBox, tueCheckBox, wedCheckBox, thuCheckBox, friCheckBox};
+        for (int i = 0; i < dayCheckBoxes.length; i++) {
+            dayCheckBoxes[i].setSelected((schedule.getDayMask() & (1 << i)) != 0);
+        }
+        requiredButton.setSelected(course.isRequired());
+        notRequiredButton.setSelected(!course.isRequired());
+    }
+
     // MODIFIES: this
     // EFFECTS: initializes the upper input panel, including the fields for subject, course,
     //          section, title, credits, starting time, and ending time
@@ -155,7 +203,10 @@ public class CourseAdder extends JPanel {
     // MODIFIES: this
     // EFFECTS: displays all components of this window
     private void displayComponents() {
-        add(upperInputPanel, BorderLayout.NORTH);
+        JPanel inputPanel = new JPanel(new BorderLayout());
+        inputPanel.add(searchPanel, BorderLayout.NORTH);
+        inputPanel.add(upperInputPanel, BorderLayout.SOUTH);
+        add(inputPanel, BorderLayout.NORTH);
         add(lowerInputPanel, BorderLayout.SOUTH);
     }
 
@@ -185,11 +236,11 @@ public class CourseAdder extends JPanel {
         try {
             int tempStartHour = Time.parseHour(startTimeInputTextField.getText());
             int tempStartMinute = Time.parseMinute(startTimeInputTextField.getText());
-            Time tempStartTime = new Time(tempStartHour, tempStartMinute);
+            Time tempStartTime = Time.of(tempStartHour, tempStartMinute);
             int tempEndHour = Time.parseHour(endTimeInputTextField.getText());
             int tempEndMinute = Time.parseMinute(endTimeInputTextField.getText());
-            Time tempEndTime = new Time(tempEndHour, tempEndMinute);
-            tempSchedule = new Schedule(getDays(), tempStartTime, tempEndTime);
+            Time tempEndTime = Time.of(tempEndHour, tempEndMinute);
+            tempSchedule = Schedule.of(getDays(), tempStartTime, tempEndTime);
         } catch (IllegalTimeException e) {
             Toolkit.getDefaultToolkit().beep();
             String message = "Invalid time!";
@@ -0,0 +1,80 @@
+package ui.gui;
+
+import model.Course;
+import model.catalog.PrefixIndex;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Represents the type-ahead suggestions of a text field: on each keystroke, the sections of the catalog
+// whose codes or title start with the text of the field are listed in a popup menu below the field,
+// and choosing one passes it to a consumer
+public class CourseSuggester implements DocumentListener {
+
+    // Maximum number of suggestions listed at a time
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private JTextField textField;
+    private PrefixIndex index;
+    private Consumer<Course> consumer;
+    private JPopupMenu popup;
+
+    // MODIFIES: textField
+    // EFFECTS: constructs suggestions for textField from index, passing the chosen section to consumer
+    public CourseSuggester(JTextField textField, PrefixIndex index, Consumer<Course> consumer) {
+        this.textField = textField;
+        this.index = index;
+        this.consumer = consumer;
+        this.popup = new JPopupMenu();
+        popup.setFocusable(false);
+        textField.getDocument().addDocumentListener(this);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: updates the suggestions after text is inserted into the field
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        updateSuggestions();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: updates the suggestions after text is removed from the field
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        updateSuggestions();
+    }
+
+    // EFFECTS: does nothing, since plain text fields have no attributes
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+    }
+
+    // MODIFIES: this
+    // EFFECTS: lists the sections matching the text of the field in the popup menu,
+    //          hiding it if there are none
+    private void updateSuggestions() {
+        List<Course> matches = index.complete(textField.getText(), MAX_SUGGESTIONS);
+        popup.setVisible(false);
+        popup.removeAll();
+        if (matches.isEmpty() || !textField.isShowing()) {
+            return;
+        }
+        for (Course c : matches) {
+            JMenuItem item = new JMenuItem(c.getKey().toString() + " - " + c.getTitle());
+            item.addActionListener(e -> choose(c));
+            popup.add(item);
+        }
+        popup.show(textField, 0, textField.getHeight());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: hides the suggestions and passes course to the consumer
+    private void choose(Course course) {
+        popup.setVisible(false);
+        SwingUtilities.invokeLater(() -> consumer.accept(course));
+    }
+
+}
@@ -2,16 +2,22 @@ package ui.gui;
 
 import exception.CourseAlreadyExistsException;
 import exception.CourseConflictsException;
+import exception.CourseNotFoundException;
 import model.Course;
+import model.CourseKey;
 import model.Worklist;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import model.catalog.CourseCatalog;
+import model.catalog.PrefixIndex;
+import persistence.CatalogReader;
+import persistence.WorklistJournal;
 import ui.PlannerAppGUI;
 
 import javax.swing.*;
 import java.awt.*;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
 
 // Represents the worklist manager of the planner, to perform actions on worklist
 public class PlannerManager {
@@ -19,20 +25,42 @@ public class PlannerManager {
     // Path of JSON file for loading and saving worklist
     private static final String JSON_PATH = "./data/worklist.json";
 
+    // Path of the journal of changes made to worklist since it was last saved in full to JSON_PATH
+    private static final String JOURNAL_PATH = "./data/worklist.journal";
+
+    // Path of JSON file for loading the term catalog
+    private static final String CATALOG_PATH = "./data/catalog.json";
+
     // Temporary course for adding a new course
     private Course tempCourse;
 
     private PlannerAppGUI planner;
     private CourseAdder courseAdder;
-    private JsonReader jsonReader;
-    private JsonWriter jsonWriter;
+    private WorklistJournal journal;
+
+    // Term catalog and its index for suggestions, or null if the catalog could not be read
+    private CourseCatalog catalog;
+    private PrefixIndex catalogIndex;
 
     // EFFECTS: constructs a manager to manage worklist of the plannerApp
     public PlannerManager(PlannerAppGUI plannerApp) {
         planner = plannerApp;
-        courseAdder = new CourseAdder();
-        jsonReader = new JsonReader(JSON_PATH);
-        jsonWriter = new JsonWriter(JSON_PATH);
+        journal = new WorklistJournal(JSON_PATH, JOURNAL_PATH);
+        loadCatalog();
+        courseAdder = new CourseAdder(catalogIndex);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the term catalog from file and indexes it for suggestions;
+    //          leaves the catalog and the index null if the catalog cannot be read
+    private void loadCatalog() {
+        try {
+            catalog = new CatalogReader(CATALOG_PATH).read();
+            catalogIndex = new PrefixIndex(catalog.getSections());
+        } catch (IOException e) {
+            catalog = null;
+            catalogIndex = null;
+        }
     }
 
     // MODIFIES: this
@@ -53,10 +81,10 @@ public class PlannerManager {
     }
 
     // MODIFIES: this
-    // EFFECTS: loads worklist from file
+    // EFFECTS: loads worklist from file, replaying the changes in the journal
     public void loadWorklist() {
         try {
-            planner.setWorklist(jsonReader.read());
+            planner.setWorklist(journal.load());
 
             String message = "Worklist <" + planner.getWorklist().getName() + "> has been loaded from " + JSON_PATH;
             JOptionPane.showMessageDialog(planner, message);
@@ -69,15 +97,13 @@ public class PlannerManager {
         planner.setContentText(null);
     }
 
-    // EFFECTS: saves worklist to file
+    // EFFECTS: saves worklist to file, appending only its changes since the last save to the journal
     public void saveWorklist() {
         try {
-            jsonWriter.open();
-            jsonWriter.write(planner.getWorklist());
-            jsonWriter.close();
+            journal.save(planner.getWorklist());
             String message = "Worklist <" + planner.getWorklist().getName() + "> has been saved to " + JSON_PATH;
             JOptionPane.showMessageDialog(planner, message);
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             Toolkit.getDefaultToolkit().beep();
             String message = "Unable to write to file: " + JSON_PATH;
             JOptionPane.showMessageDialog(planner, message, "Error", JOptionPane.ERROR_MESSAGE);
@@ -158,7 +184,7 @@ public class PlannerManager {
     // MODIFIES: this
     // EFFECTS: performs the action of adding a course
     public void addCourse() {
-        courseAdder = new CourseAdder();
+        courseAdder = new CourseAdder(catalogIndex);
         int command = JOptionPane.showConfirmDialog(planner, courseAdder, "Add Course",
                 JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
         if (command == 0) {
@@ -175,13 +201,49 @@ public class PlannerManager {
             } catch (CourseConflictsException e) {
                 Toolkit.getDefaultToolkit().beep();
                 String message = "Course adding failed! "
-                        + tempCourse.getSubjectCourseCode() + " conflicts with an existing course.";
-                JOptionPane.showMessageDialog(planner, message, "Error", JOptionPane.ERROR_MESSAGE);
+                        + tempCourse.getSubjectCourseCode() + " conflicts with "
+                        + getCodesString(e.getConflictingCourses()) + ".";
+                suggestAlternatives(message);
             }
         }
         viewAllCourses();
     }
 
+    // MODIFIES: this
+    // EFFECTS: shows message of a conflicting course; if the catalog has other sections of the course that
+    //          fit the worklist, lets user pick one of them and adds a copy of it instead, required if the
+    //          conflicting course is, leaving the catalog's section unchanged
+    private void suggestAlternatives(String message) {
+        List<Course> alternatives = catalog == null ? Collections.emptyList()
+                : catalog.getAlternativeSections(tempCourse, planner.getWorklist());
+        if (alternatives.isEmpty()) {
+            JOptionPane.showMessageDialog(planner, message, "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        JLabel label = new JLabel("<html>" + message + "<br>These sections fit your worklist:</html>");
+        Course choice = (Course) JOptionPane.showInputDialog(planner, label, "Add Course",
+                JOptionPane.WARNING_MESSAGE, null, alternatives.toArray(), alternatives.get(0));
+        if (choice != null) {
+            try {
+                planner.getWorklist().addCourse(choice.copy(tempCourse.isRequired()));
+                String added = choice.getKey() + " has been added to worklist!";
+                JOptionPane.showMessageDialog(planner, added, "Add Course", JOptionPane.INFORMATION_MESSAGE);
+            } catch (CourseAlreadyExistsException | CourseConflictsException e) {
+                JOptionPane.showMessageDialog(planner, message, "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    // EFFECTS: returns the subject and course codes of courses separated by commas,
+    //          e.g., "CPSC 210, MATH 200"
+    private String getCodesString(List<Course> courses) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Course c : courses) {
+            joiner.add(c.getSubjectCourseCode());
+        }
+        return joiner.toString();
+    }
+
     // MODIFIES: this
     // EFFECTS: loads course information to temporary values from user input,
     //           and loads course from temporary values
@@ -197,25 +259,32 @@ public class PlannerManager {
         );
     }
 
+    // EFFECTS: returns the keys of courses, to be listed as choices in a dialog
+    private Object[] getKeys(List<Course> courses) {
+        Object[] keys = new Object[courses.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = courses.get(i).getKey();
+        }
+        return keys;
+    }
+
     // EFFECTS: this
     // EFFECTS: performs the action of deleting a course
     public void deleteCourse() {
         String title = "Delete Course";
-        Object[] allCodes = planner.getWorklist().getAllCodes().toArray();
+        Object[] allKeys = getKeys(planner.getWorklist().getCourses());
         if (planner.getWorklist().getCourses().isEmpty()) {
             Toolkit.getDefaultToolkit().beep();
             String message = "No course in worklist!";
             JOptionPane.showMessageDialog(planner, message, "Warning", JOptionPane.WARNING_MESSAGE);
         } else {
             String message = "Please choose the course you want to delete:";
-            String codes = (String) JOptionPane.showInputDialog(planner, message, title,
-                    JOptionPane.QUESTION_MESSAGE, null, allCodes, "New Worklist");
-            if (!codes.equals("cancel")) {
+            CourseKey key = (CourseKey) JOptionPane.showInputDialog(planner, message, title,
+                    JOptionPane.QUESTION_MESSAGE, null, allKeys, "New Worklist");
+            if (key != null) {
                 try {
-                    Course tempCourse = new Course(Course.parseSubjectCode(codes),
-                            Course.parseCourseCode(codes), Course.parseSectionCode(codes));
-                    planner.getWorklist().deleteCourse(tempCourse);
-                } catch (Exception e) {
+                    planner.getWorklist().deleteCourse(new Course(key));
+                } catch (CourseNotFoundException e) {
                     Toolkit.getDefaultToolkit().beep();
                     message = "Failed to delete the course!";
                     JOptionPane.showMessageDialog(planner, message, "Error", JOptionPane.ERROR_MESSAGE);
@@ -229,21 +298,19 @@ public class PlannerManager {
     // EFFECTS: performs the action of starring a course
     public void starCourse() {
         String title = "Star Course";
-        Object[] unstarredCodes = planner.getWorklist().getUnstarredCodes().toArray();
+        Object[] unstarredKeys = getKeys(planner.getWorklist().getUnstarredCourses());
         if (planner.getWorklist().getCourses().isEmpty()) {
             Toolkit.getDefaultToolkit().beep();
             String message = "No course in worklist!";
             JOptionPane.showMessageDialog(planner, message, "Warning", JOptionPane.WARNING_MESSAGE);
         } else {
             String message = "Please choose the course you want to star:";
-            String codes = (String) JOptionPane.showInputDialog(planner, message, title,
-                    JOptionPane.QUESTION_MESSAGE, null, unstarredCodes, "New Worklist");
-            if (!codes.equals("cancel")) {
+            CourseKey key = (CourseKey) JOptionPane.showInputDialog(planner, message, title,
+                    JOptionPane.QUESTION_MESSAGE, null, unstarredKeys, "New Worklist");
+            if (key != null) {
                 try {
-                    Course tempCourse = new Course(Course.parseSubjectCode(codes),
-                            Course.parseCourseCode(codes), Course.parseSectionCode(codes));
-                    planner.getWorklist().starCourse(tempCourse);
-                } catch (Exception e) {
+                    planner.getWorklist().starCourse(new Course(key));
+                } catch (CourseNotFoundException e) {
                     Toolkit.getDefaultToolkit().beep();
                     message = "Failed to star the course!";
                     JOptionPane.showMessageDialog(planner, message, "Error", JOptionPane.ERROR_MESSAGE);
@@ -257,21 +324,19 @@ public class PlannerManager {
     // EFFECTS: performs the action of unstarring a course
     public void unstarCourse() {
         String title = "Unstar Course";
-        Object[] starredCodes = planner.getWorklist().getStarredCodes().toArray();
+        Object[] starredKeys = getKeys(planner.getWorklist().getStarredCourses());
         if (planner.getWorklist().getStarredCourses().isEmpty()) {
             Toolkit.getDefaultToolkit().beep();
             String message = "No starred course in worklist!";
             JOptionPane.showMessageDialog(planner, message, "Warning", JOptionPane.WARNING_MESSAGE);
         } else {
             String message = "Please choose the course you want to unstar:";
-            String codes = (String) JOptionPane.showInputDialog(planner, message, title,
-                    JOptionPane.QUESTION_MESSAGE, null, starredCodes, "New Worklist");
-            if (!codes.equals("cancel")) {
+            CourseKey key = (CourseKey) JOptionPane.showInputDialog(planner, message, title,
+                    JOptionPane.QUESTION_MESSAGE, null, starredKeys, "New Worklist");
+            if (key != null) {
                 try {
-                    Course tempCourse = new Course(Course.parseSubjectCode(codes),
-                            Course.parseCourseCode(codes), Course.parseSectionCode(codes));
-                    planner.getWorklist().unstarCourse(tempCourse);
-                } catch (Exception e) {
+                    planner.getWorklist().unstarCourse(new Course(key));
+                } catch (CourseNotFoundException e) {
                     Toolkit.getDefaultToolkit().beep();
                     message = "Failed to unstar the course!";
                     JOptionPane.showMessageDialog(planner, message, "Error", JOptionPane.ERROR_MESSAGE);
@@ -0,0 +1,78 @@
+package model;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConflictSweepTest extends ModelTest {
+
+    private Schedule makeSchedule(int dayMask, int startMinute, int endMinute) {
+        try {
+            return Schedule.of(dayMask, Time.ofMinuteOfDay(startMinute), Time.ofMinuteOfDay(endMinute));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+            return null;
+        }
+    }
+
+    private Set<Long> sweep(List<Schedule> schedules) {
+        Set<Long> pairs = new HashSet<>();
+        ConflictSweep.forEachConflict(schedules, (i, j) -> {
+            assertTrue(i < j);
+            assertTrue(pairs.add((long) i << 32 | j));
+        });
+        return pairs;
+    }
+
+    @Test
+    public void testForEachConflictNone() {
+        List<Schedule> schedules = new ArrayList<>();
+        assertTrue(sweep(schedules).isEmpty());
+        schedules.add(makeSchedule(0b10101, 540, 600));
+        schedules.add(makeSchedule(0b10101, 600, 660));
+        schedules.add(makeSchedule(0b01010, 540, 660));
+        assertTrue(sweep(schedules).isEmpty());
+    }
+
+    @Test
+    public void testForEachConflictReportedOnce() {
+        List<Schedule> schedules = new ArrayList<>();
+        schedules.add(makeSchedule(0b11111, 540, 660));
+        schedules.add(makeSchedule(0b10101, 600, 720));
+        schedules.add(makeSchedule(0b10100, 540, 600));
+        Set<Long> pairs = sweep(schedules);
+        assertEquals(pairs.size(), 2);
+        assertTrue(pairs.contains(1L));
+        assertTrue(pairs.contains(2L));
+    }
+
+    @Test
+    public void testForEachConflictMatchesPairwise() {
+        Random random = new Random(210);
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int start = 480 + random.nextInt(60) * 10;
+            int end = random.nextInt(10) == 0 ? start - random.nextInt(3) * 30 : start + 30 + random.nextInt(6) * 10;
+            schedules.add(makeSchedule(random.nextInt(32), start, end));
+        }
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < schedules.size(); i++) {
+            for (int j = i + 1; j < schedules.size(); j++) {
+                if (schedules.get(i).isOverlapping(schedules.get(j))) {
+                    expected.add((long) i << 32 | j);
+                }
+            }
+        }
+        assertFalse(expected.isEmpty());
+        assertEquals(sweep(schedules), expected);
+    }
+
+}
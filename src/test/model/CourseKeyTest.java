@@ -0,0 +1,85 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CourseKeyTest extends ModelTest {
+
+    private CourseKey testKey;
+
+    @BeforeEach
+    public void init() {
+        testKey = CourseKey.of("CPSC", "210", "921");
+    }
+
+    @Test
+    public void testCodes() {
+        assertEquals(testKey.getSubjectCode(), "CPSC");
+        assertEquals(testKey.getCourseCode(), "210");
+        assertEquals(testKey.getSectionCode(), "921");
+        assertEquals(testKey.getSubjectCourseCode(), "CPSC 210");
+        assertEquals(testKey.toString(), "CPSC 210 921");
+    }
+
+    @Test
+    public void testCodesShareStrings() {
+        CourseKey otherSection = CourseKey.of(new String("CPSC"), "210", "922");
+        assertSame(testKey.getSubjectCode(), otherSection.getSubjectCode());
+        assertSame(testKey.toString(), testKey.toString());
+    }
+
+    @Test
+    public void testIsSameCourse() {
+        assertTrue(testKey.isSameCourse(CourseKey.of("CPSC", "210", "101")));
+        assertFalse(testKey.isSameCourse(CourseKey.of("CPSC", "213", "921")));
+        assertFalse(testKey.isSameCourse(CourseKey.of("MATH", "210", "921")));
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(testKey, CourseKey.of("CPSC", "210", "921"));
+        assertNotEquals(testKey, CourseKey.of("CPSC", "210", "922"));
+        assertNotEquals(testKey, CourseKey.of("CPSC", "921", "210"));
+        assertNotEquals(testKey, CourseKey.of("MATH", "210", "921"));
+        assertEquals(testKey, testKey);
+        assertNotEquals(testKey, null);
+        assertNotEquals(testKey, new Object());
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(testKey.hashCode(), CourseKey.of("CPSC", "210", "921").hashCode());
+        assertNotEquals(testKey.hashCode(), CourseKey.of("CPSC", "210", "922").hashCode());
+        assertNotEquals(testKey.hashCode(), CourseKey.of("CPSC", "921", "210").hashCode());
+    }
+
+    @Test
+    public void testCompareTo() {
+        assertEquals(testKey.compareTo(CourseKey.of("CPSC", "210", "921")), 0);
+        assertTrue(testKey.compareTo(CourseKey.of("CPSC", "210", "101")) > 0);
+        assertTrue(testKey.compareTo(CourseKey.of("CPSC", "213", "101")) < 0);
+        assertTrue(testKey.compareTo(CourseKey.of("ASTR", "310", "101")) > 0);
+    }
+
+    @Test
+    public void testCodesBeyondDictionaryLimit() {
+        for (int i = 0; CourseKey.getNumCodes() < CourseKey.CODE_LIMIT; i++) {
+            CourseKey.of("CPSC", "210", "F" + i);
+        }
+        CourseKey unencoded = CourseKey.of("CPSC", "210", new String("X921"));
+        CourseKey otherUnencoded = CourseKey.of(new String("CPSC"), "210", new String("X921"));
+        assertEquals(CourseKey.getNumCodes(), CourseKey.CODE_LIMIT);
+        assertEquals(unencoded, otherUnencoded);
+        assertEquals(unencoded.hashCode(), otherUnencoded.hashCode());
+        assertNotEquals(unencoded, CourseKey.of("CPSC", "210", "X922"));
+        assertNotEquals(unencoded, testKey);
+        assertNotEquals(testKey, unencoded);
+        assertTrue(unencoded.isSameCourse(testKey));
+        assertFalse(unencoded.isSameCourse(CourseKey.of("CPSC", "X213", "921")));
+        assertEquals(unencoded.toString(), "CPSC 210 X921");
+        assertEquals(testKey, CourseKey.of("CPSC", "210", "921"));
+    }
+
+}
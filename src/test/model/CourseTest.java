@@ -145,6 +145,12 @@ public class CourseTest extends ModelTest {
         assertEquals(testCourse.getSubjectCourseCode(), "CPSC 210");
     }
 
+    @Test
+    public void testGetKey() {
+        assertEquals(testCourse.getKey(), CourseKey.of("CPSC", "210", "102"));
+        assertEquals(new Course(testCourse.getKey()), testCourse);
+    }
+
     @Test
     public void testToString() {
         assertEquals(testCourse.toString(),
@@ -170,4 +176,21 @@ public class CourseTest extends ModelTest {
         assertNotEquals(testCourse.hashCode(), new Course("MATH", "210", "102").hashCode());
     }
 
+    @Test
+    public void testCopy() {
+        testCourse.star();
+        Course copy = testCourse.copy(false);
+        assertNotSame(copy, testCourse);
+        assertEquals(copy, testCourse);
+        assertEquals(copy.getTitle(), "Software Construction");
+        assertEquals(copy.getSchedule(), testSchedule);
+        assertEquals(copy.getCredits(), 4);
+        assertFalse(copy.isRequired());
+        assertFalse(copy.isStarred());
+        copy.setRequired(true);
+        copy.star();
+        copy.unstar();
+        assertTrue(testCourse.isStarred());
+    }
+
 }
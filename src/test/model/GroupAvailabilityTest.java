@@ -0,0 +1,98 @@
+package model;
+
+import exception.CourseAlreadyExistsException;
+import exception.CourseConflictsException;
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupAvailabilityTest extends ModelTest {
+
+    private Worklist alice;
+    private Worklist bob;
+
+    @BeforeEach
+    public void init() {
+        alice = new Worklist("Alice");
+        bob = new Worklist("Bob");
+        addSection(alice, "CPSC", "210", 0b10101, 9 * 60, 10 * 60);
+        addSection(alice, "MATH", "200", 0b01010, 12 * 60, 13 * 60 + 30);
+        addSection(bob, "PHYS", "200", 0b10101, 9 * 60 + 30, 11 * 60);
+        addSection(bob, "KIN", "140", 0b00010, 18 * 60, 17 * 60);
+    }
+
+    private void addSection(Worklist worklist, String subject, String course, int days, int start, int end) {
+        try {
+            Schedule schedule = Schedule.of(days, Time.ofMinuteOfDay(start), Time.ofMinuteOfDay(end));
+            worklist.addCourse(new Course(subject, course, "101", subject + " " + course, schedule, 3, false));
+        } catch (IllegalDaysException | IllegalTimeException
+                | CourseAlreadyExistsException | CourseConflictsException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testConstructor() {
+        GroupAvailability group = new GroupAvailability(Arrays.asList(alice, bob));
+        assertEquals(group.getNumMembers(), 2);
+        WeekMask expected = alice.getBusyMask();
+        expected.or(bob.getBusyMask());
+        assertEquals(group.getBusyMask(), expected);
+        assertTrue(new GroupAvailability(new ArrayList<>()).getBusyMask().isEmpty());
+    }
+
+    @Test
+    public void testGetFreeBlocks() {
+        GroupAvailability group = new GroupAvailability(Arrays.asList(alice, bob));
+        List<FreeBlock> blocks = group.getFreeBlocks(8 * 60, 20 * 60, 60);
+        assertEquals(blocks, Arrays.asList(
+                new FreeBlock(Weekday.MONDAY, 11 * 60, 20 * 60),
+                new FreeBlock(Weekday.WEDNESDAY, 11 * 60, 20 * 60),
+                new FreeBlock(Weekday.FRIDAY, 11 * 60, 20 * 60),
+                new FreeBlock(Weekday.THURSDAY, 13 * 60 + 30, 20 * 60),
+                new FreeBlock(Weekday.TUESDAY, 8 * 60, 12 * 60),
+                new FreeBlock(Weekday.THURSDAY, 8 * 60, 12 * 60),
+                new FreeBlock(Weekday.TUESDAY, 13 * 60 + 30, 17 * 60),
+                new FreeBlock(Weekday.TUESDAY, 18 * 60, 20 * 60),
+                new FreeBlock(Weekday.MONDAY, 8 * 60, 9 * 60),
+                new FreeBlock(Weekday.WEDNESDAY, 8 * 60, 9 * 60),
+                new FreeBlock(Weekday.FRIDAY, 8 * 60, 9 * 60)));
+        assertEquals(blocks.get(3).getLength(), 390);
+        assertEquals(blocks.get(3).toString(), "THURSDAY 13:30 - 20:00");
+    }
+
+    @Test
+    public void testGetFreeBlocksMinLength() {
+        GroupAvailability group = new GroupAvailability(Arrays.asList(alice, bob));
+        assertEquals(group.getFreeBlocks(8 * 60, 20 * 60, 400).size(), 3);
+        assertTrue(group.getFreeBlocks(8 * 60, 20 * 60, 541).isEmpty());
+        assertEquals(group.getFreeBlocks(0, Time.MINUTES_PER_DAY, 0).size(), 11);
+    }
+
+    @Test
+    public void testGetFreeBlocksManyMembers() {
+        Random random = new Random(500);
+        List<Worklist> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Worklist worklist = new Worklist("Student " + i);
+            int start = 8 * 60 + random.nextInt(60) * 10;
+            addSection(worklist, "SUBJ", String.valueOf(i), random.nextInt(31) + 1, start, start + 50);
+            roster.add(worklist);
+        }
+        GroupAvailability group = new GroupAvailability(roster);
+        for (FreeBlock b : group.getFreeBlocks(7 * 60, 22 * 60, 1)) {
+            for (Worklist worklist : roster) {
+                assertTrue(worklist.getBusyMask().isFree(1 << b.getDay().ordinal(), b.getStart(), b.getEnd()));
+            }
+        }
+    }
+
+}
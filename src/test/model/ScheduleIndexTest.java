@@ -0,0 +1,91 @@
+package model;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static model.Schedule.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleIndexTest extends ModelTest {
+
+    private ScheduleIndex testIndex;
+    private Course morningMWF, noonMWF, afternoonTT, reversedTT;
+
+    @BeforeEach
+    public void init() {
+        testIndex = new ScheduleIndex();
+        try {
+            morningMWF = new Course("CPSC", "221", "101", "Basic Algorithms and Data Structures",
+                    new Schedule(MEETING_DAYS_MWF, new Time(9, 0), new Time(10, 0)), 4, true);
+            noonMWF = new Course("MATH", "200", "101", "Calculus III",
+                    new Schedule(MEETING_DAYS_MWF, new Time(12, 0), new Time(13, 0)), 3, true);
+            afternoonTT = new Course("PHYS", "200", "101", "Relativity and Quanta",
+                    new Schedule(MEETING_DAYS_TT, new Time(14, 0), new Time(15, 30)), 4, false);
+            reversedTT = new Course("KIN", "140", "002", "Lifespan Motor Development",
+                    new Schedule(MEETING_DAYS_TT, new Time(18, 0), new Time(17, 0)), 3, false);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        testIndex.add(morningMWF);
+        testIndex.add(noonMWF);
+        testIndex.add(afternoonTT);
+    }
+
+    private Schedule makeSchedule(boolean[] days, int startHour, int endHour) {
+        try {
+            return new Schedule(days, new Time(startHour, 0), new Time(endHour, 0));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+            return null;
+        }
+    }
+
+    @Test
+    public void testGetConflictsNone() {
+        assertTrue(testIndex.getConflicts(makeSchedule(MEETING_DAYS_MWF, 10, 12)).isEmpty());
+        assertTrue(testIndex.getConflicts(makeSchedule(MEETING_DAYS_TT, 9, 14)).isEmpty());
+        assertTrue(testIndex.getConflicts(makeSchedule(MEETING_DAYS_MWF, 14, 16)).isEmpty());
+    }
+
+    @Test
+    public void testGetConflictsSingle() {
+        List<Course> conflicts = testIndex.getConflicts(makeSchedule(MEETING_DAYS_MTTF, 15, 16));
+        assertEquals(conflicts.size(), 1);
+        assertEquals(conflicts.get(0), afternoonTT);
+    }
+
+    @Test
+    public void testGetConflictsMultipleReportedOnce() {
+        List<Course> conflicts = testIndex.getConflicts(makeSchedule(MEETING_DAYS_MTTF, 9, 15));
+        assertEquals(conflicts.size(), 3);
+        assertEquals(conflicts.get(0), noonMWF);
+        assertEquals(conflicts.get(1), morningMWF);
+        assertEquals(conflicts.get(2), afternoonTT);
+    }
+
+    @Test
+    public void testRemove() {
+        testIndex.remove(new Course("MATH", "200", "101"));
+        assertTrue(testIndex.getConflicts(makeSchedule(MEETING_DAYS_MWF, 12, 13)).isEmpty());
+        assertEquals(testIndex.getConflicts(makeSchedule(MEETING_DAYS_MWF, 9, 13)).size(), 1);
+        testIndex.remove(new Course("MATH", "200", "101"));
+        assertEquals(testIndex.getConflicts(makeSchedule(MEETING_DAYS_MWF, 9, 13)).size(), 1);
+    }
+
+    @Test
+    public void testReversedSchedule() {
+        testIndex.add(reversedTT);
+        List<Course> conflicts = testIndex.getConflicts(makeSchedule(MEETING_DAYS_TT, 16, 19));
+        assertEquals(conflicts.size(), 1);
+        assertEquals(conflicts.get(0), reversedTT);
+        assertTrue(testIndex.getConflicts(makeSchedule(MEETING_DAYS_TT, 17, 18)).isEmpty());
+
+        testIndex.remove(reversedTT);
+        assertTrue(testIndex.getConflicts(makeSchedule(MEETING_DAYS_TT, 16, 19)).isEmpty());
+    }
+
+}
@@ -0,0 +1,155 @@
+package model;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static model.Schedule.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchedulePoolTest extends ModelTest {
+
+    private Schedule morningMWF, lateMorningMWF, morningTT;
+
+    @BeforeEach
+    public void init() {
+        try {
+            morningMWF = Schedule.of(MEETING_DAYS_MWF, Time.of(9, 0), Time.of(10, 0));
+            lateMorningMWF = Schedule.of(0b10101, Time.of(9, 30), Time.of(11, 0));
+            morningTT = Schedule.of(MEETING_DAYS_TT, Time.of(9, 0), Time.of(10, 0));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testOfSharesInstances() {
+        try {
+            assertSame(morningMWF, Schedule.of(0b10101, Time.of(9, 0), Time.of(10, 0)));
+            assertSame(morningMWF, Schedule.of(new boolean[]{true, false, true, false, true},
+                    new Time(9, 0), new Time(10, 0)));
+            assertEquals(morningMWF, new Schedule(MEETING_DAYS_MWF, Time.of(9, 0), Time.of(10, 0)));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertNotSame(morningMWF.getDays(), MEETING_DAYS_MWF);
+        assertArrayEquals(morningMWF.getDays(), MEETING_DAYS_MWF);
+    }
+
+    @Test
+    public void testSharedDaysNotModifiable() {
+        Schedule other = null;
+        try {
+            other = Schedule.of(MEETING_DAYS_MWF, Time.of(9, 0), Time.of(10, 0));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        morningMWF.getDays()[1] = true;
+        assertFalse(other.getDays()[1]);
+        assertFalse(other.hasMeeting(Weekday.TUESDAY));
+        assertArrayEquals(morningMWF.getDays(), MEETING_DAYS_MWF);
+    }
+
+    @Test
+    public void testOfIllegalDaysException() {
+        try {
+            Schedule.of(new boolean[4], Time.of(9, 0), Time.of(10, 0));
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalDaysException e) {
+            // expected
+        } catch (IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+
+        try {
+            Schedule.of(1 << 5, Time.of(9, 0), Time.of(10, 0));
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalDaysException e) {
+            // expected
+        } catch (IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testPatternIds() {
+        assertNotEquals(morningMWF.getPatternId(), lateMorningMWF.getPatternId());
+        assertNotEquals(morningMWF.getPatternId(), morningTT.getPatternId());
+        assertTrue(morningTT.getPatternId() < SchedulePool.size());
+        assertSame(SchedulePool.get(morningTT.getPatternId()), morningTT);
+        try {
+            assertEquals(new Schedule(MEETING_DAYS_TT, Time.of(9, 0), Time.of(10, 0)).getPatternId(), -1);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testIsOverlapping() {
+        int id1 = morningMWF.getPatternId();
+        int id2 = lateMorningMWF.getPatternId();
+        int id3 = morningTT.getPatternId();
+        assertTrue(SchedulePool.isOverlapping(id1, id2));
+        assertTrue(SchedulePool.isOverlapping(id2, id1));
+        assertTrue(SchedulePool.isOverlapping(id1, id1));
+        assertFalse(SchedulePool.isOverlapping(id1, id3));
+        assertFalse(SchedulePool.isOverlapping(id3, id2));
+    }
+
+    @Test
+    public void testManyPatterns() {
+        try {
+            for (int minute = 0; minute < 200; minute++) {
+                Schedule s = Schedule.of(0b00001, Time.ofMinuteOfDay(minute), Time.ofMinuteOfDay(minute + 30));
+                Schedule first = Schedule.of(0b00001, Time.ofMinuteOfDay(0), Time.ofMinuteOfDay(30));
+                assertEquals(SchedulePool.isOverlapping(first.getPatternId(), s.getPatternId()),
+                        first.isOverlapping(s));
+            }
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testScheduleIsOverlappingLooksUpMatrix() {
+        Schedule[] pooled = {morningMWF, lateMorningMWF, morningTT};
+        assertTrue(SchedulePool.isMemoized(morningTT.getPatternId()));
+        assertFalse(SchedulePool.isMemoized(-1));
+        try {
+            for (Schedule s : pooled) {
+                Schedule copy = new Schedule(s.getDays(), s.getStartTime(), s.getEndTime());
+                for (Schedule t : pooled) {
+                    assertEquals(s.isOverlapping(t), s.isOverlappingTimes(t));
+                    assertEquals(copy.isOverlapping(t), s.isOverlappingTimes(t));
+                    assertEquals(t.isOverlapping(copy), s.isOverlappingTimes(t));
+                }
+            }
+        } catch (IllegalDaysException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testPatternsBeyondMatrixLimit() {
+        try {
+            Schedule first = Schedule.of(0b00010, Time.ofMinuteOfDay(0), Time.ofMinuteOfDay(30));
+            Schedule last = first;
+            for (int minute = 1; SchedulePool.size() <= SchedulePool.MATRIX_LIMIT + 1; minute++) {
+                last = Schedule.of(0b00010 | (minute / 1000 << 2), Time.ofMinuteOfDay(minute % 1000),
+                        Time.ofMinuteOfDay(minute % 1000 + 20));
+            }
+            assertTrue(last.getPatternId() >= SchedulePool.MATRIX_LIMIT);
+            assertFalse(SchedulePool.isMemoized(last.getPatternId()));
+            Schedule overlapping = Schedule.of(0b00010, last.getStartTime(), last.getEndTime());
+            assertTrue(last.isOverlapping(overlapping));
+            assertTrue(SchedulePool.isOverlapping(last.getPatternId(), overlapping.getPatternId()));
+            assertEquals(SchedulePool.isOverlapping(first.getPatternId(), last.getPatternId()),
+                    first.isOverlappingTimes(last));
+            assertEquals(last.isOverlapping(first), first.isOverlappingTimes(last));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+}
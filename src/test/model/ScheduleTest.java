@@ -28,11 +28,28 @@ public class ScheduleTest extends ModelTest {
 
     @Test
     public void testConstructorNoException() {
-        assertEquals(testSchedule.getDays(), MEETING_DAYS_MWF);
+        assertArrayEquals(testSchedule.getDays(), MEETING_DAYS_MWF);
         assertEquals(testSchedule.getStartTime(), testStartTime);
         assertEquals(testSchedule.getEndTime(), testEndTime);
     }
 
+    @Test
+    public void testDaysNotShared() {
+        boolean[] days = {true, false, false, false, false};
+        try {
+            testSchedule = new Schedule(days, testStartTime, testEndTime);
+        } catch (IllegalDaysException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        days[1] = true;
+        assertFalse(testSchedule.getDays()[1]);
+        assertFalse(testSchedule.hasMeeting(Weekday.TUESDAY));
+
+        testSchedule.getDays()[2] = true;
+        assertFalse(testSchedule.getDays()[2]);
+        assertFalse(testSchedule.hasMeeting(Weekday.WEDNESDAY));
+    }
+
     @Test
     public void testConstructorIllegalDaysException() {
         try {
@@ -97,6 +114,33 @@ public class ScheduleTest extends ModelTest {
         assertTrue(testSchedule.isOverlapping(differentDaysOverlapped));
     }
 
+    @Test
+    public void testIsOverlappingAdjacentOrDisjointDays() {
+        Schedule adjacentBefore = null;
+        Schedule adjacentAfter = null;
+        Schedule otherDays = null;
+        try {
+            adjacentBefore = new Schedule(MEETING_DAYS_MWF, new Time(9, 0), new Time(10, 0));
+            adjacentAfter = new Schedule(MEETING_DAYS_MTTF, new Time(11, 0), new Time(12, 30));
+            otherDays = new Schedule(MEETING_DAYS_TT, new Time(9, 0), new Time(12, 0));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+
+        assertFalse(testSchedule.isOverlapping(adjacentBefore));
+        assertFalse(adjacentBefore.isOverlapping(testSchedule));
+        assertFalse(testSchedule.isOverlapping(adjacentAfter));
+        assertFalse(testSchedule.isOverlapping(otherDays));
+        assertTrue(testSchedule.isOverlapping(testSchedule));
+    }
+
+    @Test
+    public void testPackedFields() {
+        assertEquals(testSchedule.getDayMask(), 0b10101);
+        assertEquals(testSchedule.getStartMinute(), 10 * 60);
+        assertEquals(testSchedule.getEndMinute(), 11 * 60);
+    }
+
     @Test
     public void testHasMeeting() {
         assertTrue(testSchedule.hasMeeting(Weekday.MONDAY));
@@ -65,6 +65,72 @@ public class TimeTest extends ModelTest {
         }
     }
 
+    @Test
+    public void testConstructorEndOfDay() {
+        try {
+            testTime = new Time(24, 0);
+            assertEquals(testTime.getMinuteOfDay(), Time.MINUTES_PER_DAY);
+        } catch (IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+
+        try {
+            testTime = new Time(24, 30);
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalHourException e) {
+            // expected
+        } catch (IllegalMinuteException e) {
+            fail(FAIL_MSG_UEET);
+        }
+
+        try {
+            testTime = new Time(12, 60);
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalHourException e) {
+            fail(FAIL_MSG_UEET);
+        } catch (IllegalMinuteException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOfSharesInstances() {
+        try {
+            testTime = Time.of(6, 30);
+            assertSame(testTime, Time.of(6, 30));
+            assertSame(testTime, Time.ofMinuteOfDay(390));
+            assertEquals(testTime, new Time(6, 30));
+            assertEquals(testTime.getHour(), 6);
+            assertEquals(testTime.getMinute(), 30);
+        } catch (IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testOfIllegalTimeException() {
+        try {
+            Time.of(25, 0);
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalTimeException e) {
+            // expected
+        }
+
+        try {
+            Time.ofMinuteOfDay(-1);
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalTimeException e) {
+            // expected
+        }
+
+        try {
+            Time.ofMinuteOfDay(Time.MINUTES_PER_DAY + 1);
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalTimeException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testParseHourNoException() {
         try {
@@ -137,6 +203,13 @@ public class TimeTest extends ModelTest {
             // expected
         }
 
+        try {
+            Time.parseMinute("11:60");
+            fail(FAIL_MSG_EENT);
+        } catch (IllegalTimeException e) {
+            // expected
+        }
+
         try {
             Time.parseMinute("11:-1");
             fail(FAIL_MSG_EENT);
@@ -145,6 +218,17 @@ public class TimeTest extends ModelTest {
         }
     }
 
+    @Test
+    public void testGetMinuteOfDay() {
+        try {
+            assertEquals(new Time(0, 0).getMinuteOfDay(), 0);
+            assertEquals(new Time(7, 30).getMinuteOfDay(), 450);
+            assertEquals(new Time(23, 59).getMinuteOfDay(), 1439);
+        } catch (IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
     @Test
     public void testLaterThan() {
         try {
@@ -0,0 +1,145 @@
+package model;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeekMaskTest extends ModelTest {
+
+    private WeekMask testMask;
+
+    @BeforeEach
+    public void init() {
+        testMask = new WeekMask();
+    }
+
+    private Schedule makeSchedule(int dayMask, int startMinute, int endMinute) {
+        try {
+            return Schedule.of(dayMask, Time.ofMinuteOfDay(startMinute), Time.ofMinuteOfDay(endMinute));
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+            return null;
+        }
+    }
+
+    @Test
+    public void testConstructor() {
+        assertTrue(testMask.isEmpty());
+        assertTrue(testMask.isFree(0b11111, 0, Time.MINUTES_PER_DAY));
+        assertEquals(WeekMask.WORDS_PER_DAY, 23);
+    }
+
+    @Test
+    public void testAddAndIsFree() {
+        testMask.add(makeSchedule(0b10101, 540, 600));
+        assertFalse(testMask.isEmpty());
+        assertTrue(testMask.isBusy(0, 540));
+        assertTrue(testMask.isBusy(4, 599));
+        assertFalse(testMask.isBusy(0, 600));
+        assertFalse(testMask.isBusy(1, 550));
+        assertTrue(testMask.isFree(0b10101, 600, 660));
+        assertTrue(testMask.isFree(0b10101, 480, 540));
+        assertFalse(testMask.isFree(0b00100, 599, 660));
+        assertFalse(testMask.isFree(0b11111, 300, 1000));
+        assertTrue(testMask.isFree(0b01010, 300, 1000));
+    }
+
+    @Test
+    public void testRemove() {
+        Schedule s1 = makeSchedule(0b01010, 0, 1440);
+        Schedule s2 = makeSchedule(0b00001, 63, 129);
+        testMask.add(s1);
+        testMask.add(s2);
+        testMask.remove(s1);
+        assertTrue(testMask.isFree(0b01010, 0, 1440));
+        assertFalse(testMask.isFree(0b00001, 128, 129));
+        testMask.remove(s2);
+        assertTrue(testMask.isEmpty());
+    }
+
+    @Test
+    public void testDegenerateSchedules() {
+        WeekMask copy = new WeekMask(testMask);
+        testMask.add(makeSchedule(0b01010, 1080, 1020));
+        assertFalse(testMask.isEmpty());
+        assertFalse(testMask.isFree(0b00010, 960, 1140));
+        assertTrue(testMask.isFree(0b00010, 1020, 1080));
+        assertTrue(testMask.isFree(0b10101, 960, 1140));
+        assertTrue(copy.isEmpty());
+        testMask.remove(makeSchedule(0b01010, 1080, 1020));
+        assertEquals(testMask, copy);
+    }
+
+    @Test
+    public void testOr() {
+        WeekMask other = new WeekMask();
+        other.add(makeSchedule(0b00010, 600, 700));
+        testMask.add(makeSchedule(0b00001, 600, 700));
+        testMask.or(other);
+        assertFalse(testMask.isFree(0b00001, 650, 660));
+        assertFalse(testMask.isFree(0b00010, 650, 660));
+        assertTrue(testMask.isFree(0b00100, 650, 660));
+        assertNotEquals(testMask, other);
+        assertEquals(testMask.hashCode(), new WeekMask(testMask).hashCode());
+    }
+
+    @Test
+    public void testIsFreeMatchesIsOverlapping() {
+        Random random = new Random(213);
+        for (int round = 0; round < 50; round++) {
+            WeekMask mask = new WeekMask();
+            Schedule busy = makeSchedule(random.nextInt(32), random.nextInt(1440), random.nextInt(1441));
+            mask.add(busy);
+            for (int k = 0; k < 200; k++) {
+                int start = random.nextInt(1440);
+                int end = start + 1 + random.nextInt(1440 - start);
+                Schedule s = makeSchedule(random.nextInt(32), start, end);
+                assertEquals(mask.isFree(s.getDayMask(), start, end), !s.isOverlapping(busy));
+            }
+        }
+    }
+
+    @Test
+    public void testGetFreeBlocks() {
+        testMask.add(makeSchedule(0b00001, 63, 128));
+        testMask.add(makeSchedule(0b00001, 600, 1440));
+        testMask.add(makeSchedule(0b00010, 1080, 1020));
+        testMask.add(makeSchedule(0b00010, 700, 700));
+        assertEquals(testMask.getFreeBlocks(Weekday.MONDAY, 0, 1440), Arrays.asList(
+                new FreeBlock(Weekday.MONDAY, 0, 63), new FreeBlock(Weekday.MONDAY, 128, 600)));
+        assertEquals(testMask.getFreeBlocks(Weekday.MONDAY, 64, 700), Arrays.asList(
+                new FreeBlock(Weekday.MONDAY, 128, 600)));
+        assertEquals(testMask.getFreeBlocks(Weekday.TUESDAY, 0, 1440), Arrays.asList(
+                new FreeBlock(Weekday.TUESDAY, 0, 700), new FreeBlock(Weekday.TUESDAY, 700, 1020),
+                new FreeBlock(Weekday.TUESDAY, 1080, 1440)));
+        assertEquals(testMask.getFreeBlocks(Weekday.FRIDAY, 100, 100), Arrays.asList());
+        assertEquals(testMask.getFreeBlocks(Weekday.FRIDAY, 0, 1440), Arrays.asList(
+                new FreeBlock(Weekday.FRIDAY, 0, 1440)));
+    }
+
+    @Test
+    public void testGetFreeBlocksAreFreeAndMaximal() {
+        Random random = new Random(1440);
+        for (int round = 0; round < 50; round++) {
+            WeekMask mask = new WeekMask();
+            for (int k = 0; k < 5; k++) {
+                int start = random.nextInt(1440);
+                mask.add(makeSchedule(random.nextInt(32), start, start + 1 + random.nextInt(1440 - start)));
+            }
+            int from = random.nextInt(1440);
+            int to = from + random.nextInt(1441 - from);
+            for (FreeBlock b : mask.getFreeBlocks(Weekday.WEDNESDAY, from, to)) {
+                assertTrue(mask.isFree(0b00100, b.getStart(), b.getEnd()));
+                assertTrue(b.getStart() == from || !mask.isFree(0b00100, b.getStart() - 1, b.getEnd()));
+                assertTrue(b.getEnd() == to || !mask.isFree(0b00100, b.getStart(), b.getEnd() + 1));
+            }
+        }
+    }
+
+}
@@ -4,6 +4,11 @@ import exception.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class WorklistTest extends ModelTest {
@@ -109,11 +114,100 @@ class WorklistTest extends ModelTest {
         } catch (CourseAlreadyExistsException e) {
             fail(FAIL_MSG_UEET);
         } catch (CourseConflictsException e) {
-            // expected
+            assertEquals(e.getConflictingCourses().size(), 1);
+            assertEquals(e.getConflictingCourses().get(0), testCourse1);
         }
         assertEquals(testWorklist.getCourses().size(), 3);
     }
 
+    @Test
+    public void testAddAllNoException() {
+        try {
+            testWorklist.addCourse(testCourse3);
+            testWorklist.addAll(Arrays.asList(testCourse1, testCourse2));
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(testWorklist.getCourses(), Arrays.asList(testCourse3, testCourse1, testCourse2));
+        assertEquals(testWorklist.getTotalCredits(), 11);
+        assertEquals(testWorklist.getNumCoursesOfSubject("CPSC"), 2);
+        assertEquals(testWorklist.getConflictingCourses(testCourse4).get(0), testCourse1);
+    }
+
+    @Test
+    public void testAddAllBatchAddExceptionDuplicates() {
+        addValidCourses();
+        try {
+            testWorklist.addAll(Arrays.asList(testCourse2, new Course("MATH", "256", "101", "Duplicate",
+                    testCourse4.getSchedule(), 3, false), testCourse4));
+            fail(FAIL_MSG_EENT);
+        } catch (BatchAddException e) {
+            assertEquals(e.getDuplicateCourses(), Arrays.asList(testCourse2, testCourse4));
+            assertEquals(e.getConflicts().size(), 1);
+        }
+        assertEquals(testWorklist.getCourses().size(), 3);
+        assertEquals(testWorklist.getTotalCredits(), 11);
+    }
+
+    @Test
+    public void testAddAllBatchAddExceptionConflicts() {
+        Course testCourse5 = null;
+        try {
+            testWorklist.addCourse(testCourse2);
+            testCourse5 = new Course("PSYC", "217", "001", "Research Methods",
+                    new Schedule(Schedule.MEETING_DAYS_MTTF, new Time(10, 0), new Time(12, 30)), 3, false);
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        try {
+            testWorklist.addAll(Arrays.asList(testCourse1, testCourse3, testCourse4, testCourse5));
+            fail(FAIL_MSG_EENT);
+        } catch (BatchAddException e) {
+            assertTrue(e.getDuplicateCourses().isEmpty());
+            Map<Course, List<Course>> conflicts = e.getConflicts();
+            assertEquals(new ArrayList<>(conflicts.keySet()), Arrays.asList(testCourse4, testCourse5));
+            assertEquals(conflicts.get(testCourse4), Arrays.asList(testCourse1));
+            assertEquals(conflicts.get(testCourse5).size(), 3);
+            assertTrue(conflicts.get(testCourse5).containsAll(Arrays.asList(testCourse1, testCourse3, testCourse4)));
+        }
+        assertEquals(testWorklist.getCourses(), Arrays.asList(testCourse2));
+        assertEquals(testWorklist.getTotalCredits(), 4);
+        assertEquals(testWorklist.getNumCoursesOfSubject("PSYC"), 0);
+        assertTrue(testWorklist.getConflictingCourses(testCourse1).isEmpty());
+    }
+
+    @Test
+    public void testGetBusyMask() {
+        addValidCourses();
+        WeekMask busyMask = testWorklist.getBusyMask();
+        assertFalse(busyMask.isFree(0b00001, 12 * 60 + 30, 12 * 60 + 40));
+        assertTrue(busyMask.isFree(0b00010, 12 * 60, 13 * 60));
+        try {
+            testWorklist.deleteCourse(testCourse1);
+        } catch (CourseNotFoundException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertFalse(busyMask.isFree(0b00001, 12 * 60 + 30, 12 * 60 + 40));
+        assertTrue(testWorklist.getBusyMask().isFree(0b00001, 12 * 60 + 30, 12 * 60 + 40));
+        assertFalse(testWorklist.getBusyMask().isFree(0b01000, 9 * 60, 10 * 60));
+    }
+
+    @Test
+    public void testGetConflictingCourses() {
+        addValidCourses();
+        assertEquals(testWorklist.getConflictingCourses(testCourse4).size(), 1);
+        assertEquals(testWorklist.getConflictingCourses(testCourse4).get(0), testCourse1);
+
+        try {
+            testWorklist.deleteCourse(testCourse1);
+            assertTrue(testWorklist.getConflictingCourses(testCourse4).isEmpty());
+            testWorklist.addCourse(testCourse4);
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(testWorklist.getConflictingCourses(testCourse1).get(0), testCourse4);
+    }
+
     @Test
     public void testDeleteCourseNoException() {
         addValidCourses();
@@ -131,6 +225,21 @@ class WorklistTest extends ModelTest {
         }
     }
 
+    @Test
+    public void testDeleteCourseKeepsOrder() {
+        addValidCourses();
+        try {
+            testWorklist.deleteCourse(new Course("CPSC", "213", "102"));
+            testWorklist.addCourse(testCourse2);
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(testWorklist.getCourses().size(), 3);
+        assertSame(testWorklist.getCourses().get(0), testCourse1);
+        assertSame(testWorklist.getCourses().get(1), testCourse3);
+        assertSame(testWorklist.getCourses().get(2), testCourse2);
+    }
+
     @Test
     public void testDeleteCourseCourseNotFoundException() {
         try {
@@ -231,6 +340,35 @@ class WorklistTest extends ModelTest {
         assertEquals(testWorklist.getUnstarredCourses().size(), 1);
     }
 
+    @Test
+    public void testStarredViewsFollowChanges() {
+        addValidCourses();
+        assertEquals(testWorklist.getStarredCourses().size(), 0);
+        assertSame(testWorklist.getUnstarredCodes(), testWorklist.getUnstarredCodes());
+        try {
+            testWorklist.starCourse(new Course("PSYC", "305A", "001"));
+            assertEquals(testWorklist.getStarredCourses().size(), 1);
+            assertTrue(testWorklist.getStarredCodes().contains("PSYC 305A 001"));
+            assertFalse(testWorklist.getUnstarredCodes().contains("PSYC 305A 001"));
+
+            testWorklist.deleteCourse(new Course("PSYC", "305A", "001"));
+            assertEquals(testWorklist.getStarredCourses().size(), 0);
+            assertEquals(testWorklist.getStarredCodes().size(), 0);
+            assertEquals(testWorklist.getAllCodes().size(), 2);
+
+            testWorklist.unstarCourse(new Course("CPSC", "221", "103"));
+            assertEquals(testWorklist.getUnstarredCourses().size(), 2);
+        } catch (CourseNotFoundException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        try {
+            testWorklist.getStarredCourses().add(testCourse4);
+            fail(FAIL_MSG_EENT);
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testGetTotalCredits() {
         addValidCourses();
@@ -280,6 +418,27 @@ class WorklistTest extends ModelTest {
         assertEquals(testWorklist.getNumCoursesOfSubject("MATH"), 0);
     }
 
+    @Test
+    public void testStatisticsAfterChanges() {
+        addValidCourses();
+        try {
+            testWorklist.deleteCourse(new Course("PSYC", "305A", "001"));
+            testWorklist.deleteCourse(new Course("CPSC", "221", "103"));
+            testWorklist.setRequired(new Course("CPSC", "213", "102"), false);
+            testWorklist.setRequired(new Course("CPSC", "213", "102"), false);
+            testWorklist.addCourse(testCourse4);
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(testWorklist.getTotalCredits(), 4 + 3);
+        assertEquals(testWorklist.getNumRequiredCourses(), 0);
+        assertEquals(testWorklist.getNumOptionalCourses(), 2);
+        assertEquals(testWorklist.getNumCoursesOfSubject("PSYC"), 0);
+        assertEquals(testWorklist.getNumCoursesOfSubject("MATH"), 1);
+        assertFalse(testWorklist.getSubjectCodes().contains("PSYC"));
+        assertEquals(testWorklist.getSubjectCodes().size(), 2);
+    }
+
     @Test
     public void testGetNumRequiredOptionalCourses() {
         addValidCourses();
@@ -287,4 +446,97 @@ class WorklistTest extends ModelTest {
         assertEquals(testWorklist.getNumOptionalCourses(), 1);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGetCoursesIsUnmodifiableSnapshot() {
+        addValidCourses();
+        List<Course> before = testWorklist.getCourses();
+        try {
+            testWorklist.deleteCourse(testCourse2);
+            testWorklist.addCourse(testCourse2);
+            testWorklist.deleteCourse(new Course("CPSC", "221", "103"));
+        } catch (CourseNotFoundException | CourseAlreadyExistsException | CourseConflictsException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(before, Arrays.asList(testCourse1, testCourse2, testCourse3));
+        assertEquals(testWorklist.getCourses(), Arrays.asList(testCourse3, testCourse2));
+        assertThrows(UnsupportedOperationException.class, () -> testWorklist.getCourses().add(testCourse1));
+    }
+
+    @Test
+    public void testListeners() {
+        List<String> events = new ArrayList<>();
+        WorklistListener listener = makeRecordingListener(events);
+        testWorklist.addListener(listener);
+        try {
+            testWorklist.addCourse(testCourse1);
+            testWorklist.addAll(Arrays.asList(testCourse2, testCourse3));
+            testWorklist.setRequired(testCourse1, true);
+            testWorklist.setRequired(testCourse1, false);
+            testWorklist.starCourse(testCourse2);
+            testWorklist.starCourse(testCourse2);
+            testWorklist.unstarCourse(testCourse2);
+            testWorklist.unstarCourse(testCourse2);
+            testWorklist.deleteCourse(testCourse3);
+            testWorklist.removeListener(listener);
+            testWorklist.deleteCourse(testCourse2);
+        } catch (CourseAlreadyExistsException | CourseConflictsException | BatchAddException
+                | CourseNotFoundException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(events, Arrays.asList("add CPSC 221 103", "add CPSC 213 102", "add PSYC 305A 001",
+                "required CPSC 221 103 false", "star CPSC 213 102", "unstar CPSC 213 102",
+                "delete PSYC 305A 001"));
+    }
+
+    @Test
+    public void testListenersNotNotifiedOfFailedChanges() {
+        List<String> events = new ArrayList<>();
+        testWorklist.addListener(makeRecordingListener(events));
+        try {
+            testWorklist.addCourse(testCourse1);
+            testWorklist.addCourse(testCourse4);
+            fail(FAIL_MSG_EENT);
+        } catch (CourseAlreadyExistsException e) {
+            fail(FAIL_MSG_UEET);
+        } catch (CourseConflictsException e) {
+            // expected
+        }
+        try {
+            testWorklist.starCourse(testCourse2);
+            fail(FAIL_MSG_EENT);
+        } catch (CourseNotFoundException e) {
+            // expected
+        }
+        assertEquals(events, Arrays.asList("add CPSC 221 103"));
+    }
+
+    private WorklistListener makeRecordingListener(List<String> events) {
+        return new WorklistListener() {
+            @Override
+            public void courseAdded(Course course) {
+                events.add("add " + course.getKey());
+            }
+
+            @Override
+            public void courseDeleted(Course course) {
+                events.add("delete " + course.getKey());
+            }
+
+            @Override
+            public void requiredChanged(Course course, boolean required) {
+                events.add("required " + course.getKey() + " " + required);
+            }
+
+            @Override
+            public void courseStarred(Course course) {
+                events.add("star " + course.getKey());
+            }
+
+            @Override
+            public void courseUnstarred(Course course) {
+                events.add("unstar " + course.getKey());
+            }
+        };
+    }
+
+}
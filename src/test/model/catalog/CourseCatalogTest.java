@@ -0,0 +1,188 @@
+package model.catalog;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.CourseKey;
+import model.ModelTest;
+import model.Schedule;
+import model.Time;
+import model.Weekday;
+import model.Worklist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CourseCatalogTest extends ModelTest {
+
+    private Course cpsc210101, cpsc210102, cpsc221101, math200101, phys200101, kin140002;
+    private CourseCatalog testCatalog;
+
+    @BeforeEach
+    public void init() {
+        cpsc210101 = makeSection("CPSC", "210", "101", 0b10101, 9 * 60, 10 * 60);
+        cpsc210102 = makeSection("CPSC", "210", "102", 0b01010, 14 * 60, 15 * 60 + 30);
+        cpsc221101 = makeSection("CPSC", "221", "101", 0b10101, 12 * 60, 13 * 60);
+        math200101 = makeSection("MATH", "200", "101", 0b10101, 10 * 60, 11 * 60);
+        phys200101 = makeSection("PHYS", "200", "101", 0b01010, 9 * 60 + 30, 11 * 60);
+        kin140002 = makeSection("KIN", "140", "002", 0b00010, 17 * 60, 18 * 60 + 30);
+        testCatalog = new CourseCatalog("2021W1", Arrays.asList(phys200101, cpsc221101, kin140002,
+                cpsc210102, math200101, cpsc210101, makeSection("CPSC", "210", "101", 0b00001, 0, 60)));
+    }
+
+    private Course makeSection(String subject, String course, String section, int days, int start, int end) {
+        try {
+            Schedule schedule = Schedule.of(days, Time.ofMinuteOfDay(start), Time.ofMinuteOfDay(end));
+            return new Course(subject, course, section, subject + " " + course, schedule, 3, false);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+            return null;
+        }
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(testCatalog.getTerm(), "2021W1");
+        assertEquals(testCatalog.size(), 6);
+        assertEquals(testCatalog.getSections(), Arrays.asList(cpsc210101, cpsc210102, cpsc221101,
+                kin140002, math200101, phys200101));
+        assertEquals(new CourseCatalog("Empty", new ArrayList<>()).size(), 0);
+    }
+
+    @Test
+    public void testGetSection() {
+        assertSame(testCatalog.getSection(CourseKey.of("CPSC", "210", "101")), cpsc210101);
+        assertSame(testCatalog.getSection(CourseKey.of("PHYS", "200", "101")), phys200101);
+        assertNull(testCatalog.getSection(CourseKey.of("CPSC", "210", "103")));
+        assertNull(testCatalog.getSection(CourseKey.of("ZOOL", "100", "101")));
+    }
+
+    @Test
+    public void testGetSectionsOfSubjectAndCourse() {
+        assertEquals(testCatalog.getSectionsOfSubject("CPSC"), Arrays.asList(cpsc210101, cpsc210102, cpsc221101));
+        assertEquals(testCatalog.getSectionsOfSubject("KIN"), Arrays.asList(kin140002));
+        assertTrue(testCatalog.getSectionsOfSubject("CHEM").isEmpty());
+        assertEquals(testCatalog.getSectionsOfCourse("CPSC", "210"), Arrays.asList(cpsc210101, cpsc210102));
+        assertEquals(testCatalog.getSectionsOfCourse("CPSC", "221"), Arrays.asList(cpsc221101));
+        assertTrue(testCatalog.getSectionsOfCourse("CPSC", "213").isEmpty());
+    }
+
+    @Test
+    public void testGetSectionsByDayAndStart() {
+        assertEquals(testCatalog.getSectionsOnDay(Weekday.MONDAY), Arrays.asList(cpsc210101, math200101, cpsc221101));
+        assertEquals(testCatalog.getSectionsOnDay(Weekday.TUESDAY),
+                Arrays.asList(phys200101, cpsc210102, kin140002));
+        assertEquals(testCatalog.getSectionsStartingBetween(9 * 60, 12 * 60),
+                Arrays.asList(cpsc210101, phys200101, math200101));
+        assertEquals(testCatalog.getSectionsOnDayStartingBetween(Weekday.THURSDAY, 9 * 60, 17 * 60),
+                Arrays.asList(phys200101, cpsc210102));
+        assertTrue(testCatalog.getSectionsOnDayStartingBetween(Weekday.FRIDAY, 13 * 60, 9 * 60).isEmpty());
+    }
+
+    @Test
+    public void testGetScheduleArrays() {
+        assertEquals(testCatalog.getDayMasks()[3], 0b00010);
+        assertEquals(testCatalog.getStartMinutes()[3], 17 * 60);
+        assertEquals(testCatalog.getEndMinutes()[3], 18 * 60 + 30);
+    }
+
+    @Test
+    public void testViewsAreReadOnly() {
+        try {
+            testCatalog.getSectionsOfSubject("CPSC").clear();
+            fail(FAIL_MSG_EENT);
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertEquals(testCatalog.size(), 6);
+    }
+
+    @Test
+    public void testGetSectionsFitting() {
+        Worklist worklist = new Worklist("Test Worklist");
+        assertEquals(testCatalog.getSectionsFitting(worklist), testCatalog.getSections());
+        try {
+            worklist.addCourse(makeSection("ENGL", "110", "001", 0b10001, 9 * 60 + 50, 10 * 60 + 10));
+            worklist.addCourse(makeSection("STAT", "200", "001", 0b01000, 18 * 60, 17 * 60));
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(testCatalog.getSectionsFitting(worklist), Arrays.asList(cpsc210102, cpsc221101, kin140002,
+                phys200101));
+    }
+
+    @Test
+    public void testGetSectionsFittingMatchesConflicts() {
+        Random random = new Random(310);
+        List<Course> sections = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int start = 8 * 60 + random.nextInt(72) * 10;
+            int end = random.nextInt(20) == 0 ? start - 30 : start + 50;
+            sections.add(makeSection("SUBJ", String.valueOf(i), "001", random.nextInt(31) + 1, start, end));
+        }
+        CourseCatalog catalog = new CourseCatalog("Random", sections);
+        Worklist worklist = new Worklist("Random");
+        for (Course c : sections.subList(0, 40)) {
+            try {
+                worklist.addCourse(c);
+            } catch (Exception e) {
+                // skip courses conflicting with the worklist
+            }
+        }
+        List<Course> expected = new ArrayList<>();
+        for (Course c : catalog.getSections()) {
+            if (worklist.getConflictingCourses(c).isEmpty()) {
+                expected.add(c);
+            }
+        }
+        assertEquals(catalog.getSectionsFitting(worklist), expected);
+    }
+
+    @Test
+    public void testGetAlternativeSections() {
+        Worklist worklist = new Worklist("Test Worklist");
+        try {
+            worklist.addCourse(makeSection("MATH", "220", "101", 0b10101, 9 * 60 + 30, 10 * 60 + 30));
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertEquals(testCatalog.getAlternativeSections(cpsc210101, worklist), Arrays.asList(cpsc210102));
+        assertEquals(testCatalog.getAlternativeSections(cpsc210102, worklist), Arrays.asList());
+        assertEquals(testCatalog.getAlternativeSections(math200101, worklist), Arrays.asList());
+        Course missing = makeSection("ENGL", "110", "001", 0b10101, 9 * 60, 10 * 60);
+        assertTrue(testCatalog.getAlternativeSections(missing, worklist).isEmpty());
+        try {
+            worklist.addCourse(makeSection("STAT", "200", "001", 0b01000, 15 * 60, 16 * 60));
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertTrue(testCatalog.getAlternativeSections(cpsc210101, worklist).isEmpty());
+    }
+
+    @Test
+    public void testAlternativeSectionCopy() {
+        Worklist worklist = new Worklist("Test Worklist");
+        Course copy = null;
+        try {
+            worklist.addCourse(makeSection("MATH", "220", "101", 0b10101, 9 * 60 + 30, 10 * 60 + 30));
+            copy = testCatalog.getAlternativeSections(cpsc210101, worklist).get(0).copy(true);
+            worklist.addCourse(copy);
+            worklist.starCourse(copy);
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertTrue(copy.isStarred());
+        assertTrue(copy.isRequired());
+        assertNotSame(copy, cpsc210102);
+        assertFalse(cpsc210102.isStarred());
+        assertFalse(cpsc210102.isRequired());
+        assertFalse(testCatalog.getSection(cpsc210102.getKey()).isStarred());
+    }
+
+}
@@ -0,0 +1,70 @@
+package model.catalog;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.ModelTest;
+import model.Schedule;
+import model.Time;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixIndexTest extends ModelTest {
+
+    private Course cpsc210101, cpsc210102, cpsc221101, chem233101, chem208112;
+    private PrefixIndex testIndex;
+
+    @BeforeEach
+    public void init() {
+        try {
+            Schedule schedule = Schedule.of(0b10101, Time.of(9, 0), Time.of(10, 0));
+            cpsc210101 = new Course("CPSC", "210", "101", "Software Construction", schedule, 4, false);
+            cpsc210102 = new Course("CPSC", "210", "102", "Software Construction", schedule, 4, false);
+            cpsc221101 = new Course("CPSC", "221", "101", "Basic Algorithms and Data Structures", schedule, 4, false);
+            chem233101 = new Course("CHEM", "233", "101", "Organic Chemistry for the Biological Sciences",
+                    schedule, 3, false);
+            chem208112 = new Course("CHEM", "208", "112", "Coordination Chemistry", schedule, 3, false);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        testIndex = new PrefixIndex(Arrays.asList(cpsc221101, chem233101, cpsc210102, chem208112, cpsc210101));
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(testIndex.size(), 15);
+        assertEquals(new PrefixIndex(new ArrayList<>()).size(), 0);
+        assertTrue(new PrefixIndex(new ArrayList<>()).complete("cpsc", 5).isEmpty());
+    }
+
+    @Test
+    public void testCompleteCodes() {
+        assertEquals(testIndex.complete("CPSC 2", 10), Arrays.asList(cpsc210101, cpsc210102, cpsc221101));
+        assertEquals(testIndex.complete("cpsc21", 10), Arrays.asList(cpsc210101, cpsc210102));
+        assertEquals(testIndex.complete("  cpsc 210 102", 10), Arrays.asList(cpsc210102));
+        assertEquals(testIndex.complete("CPSC", 2), Arrays.asList(cpsc210101, cpsc210102));
+        assertTrue(testIndex.complete("CPSC 3", 10).isEmpty());
+    }
+
+    @Test
+    public void testCompleteTitles() {
+        assertEquals(testIndex.complete("Software", 10), Arrays.asList(cpsc210101, cpsc210102));
+        assertEquals(testIndex.complete("organic chem", 10), Arrays.asList(chem233101));
+        List<Course> chem = testIndex.complete("ch", 10);
+        assertEquals(chem, Arrays.asList(chem208112, chem233101));
+    }
+
+    @Test
+    public void testCompleteBlank() {
+        assertTrue(testIndex.complete("", 10).isEmpty());
+        assertTrue(testIndex.complete("   ", 10).isEmpty());
+        assertTrue(testIndex.complete("cpsc", 0).isEmpty());
+    }
+
+}
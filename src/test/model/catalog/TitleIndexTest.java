@@ -0,0 +1,139 @@
+package model.catalog;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.ModelTest;
+import model.Schedule;
+import model.Time;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TitleIndexTest extends ModelTest {
+
+    private Course chem233, chem123, chem208, kin140, psyc305, cpsc210;
+    private TitleIndex testIndex;
+
+    @BeforeEach
+    public void init() {
+        chem233 = makeCourse("CHEM", "233", "Organic Chemistry for the Biological Sciences");
+        chem123 = makeCourse("CHEM", "123", "Physical and Organic Chemistry");
+        chem208 = makeCourse("CHEM", "208", "Coordination Chemistry");
+        kin140 = makeCourse("KIN", "140", "Lifespan Motor Development");
+        psyc305 = makeCourse("PSYC", "305A", "Personality Psychology");
+        cpsc210 = makeCourse("CPSC", "210", "Software Construction");
+        testIndex = new TitleIndex(Arrays.asList(chem233, chem123, chem208, kin140, psyc305));
+    }
+
+    private Course makeCourse(String subject, String course, String title) {
+        try {
+            Schedule schedule = Schedule.of(0b10101, Time.of(9, 0), Time.of(10, 0));
+            return new Course(subject, course, "101", title, schedule, 3, false);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+            return null;
+        }
+    }
+
+    @Test
+    public void testTokenize() {
+        assertEquals(TitleIndex.tokenize("  Organic-Chemistry, for the BIOL 112!"),
+                Arrays.asList("organic", "chemistry", "for", "the", "biol", "112"));
+        assertTrue(TitleIndex.tokenize(" -- ").isEmpty());
+    }
+
+    @Test
+    public void testSearchSingleWord() {
+        assertEquals(testIndex.search("motor", 10), Arrays.asList(kin140));
+        assertEquals(testIndex.search("Chemistry", 10), Arrays.asList(chem233, chem123, chem208));
+        assertEquals(testIndex.search("psyc", 10), Arrays.asList(psyc305));
+        assertTrue(testIndex.search("software", 10).isEmpty());
+        assertTrue(testIndex.search("", 10).isEmpty());
+    }
+
+    @Test
+    public void testSearchAllWords() {
+        assertEquals(testIndex.search("organic chemistry", 10), Arrays.asList(chem233, chem123));
+        assertEquals(testIndex.search("chemistry ORGANIC organic", 1), Arrays.asList(chem233));
+        assertEquals(testIndex.search("motor development", 10), Arrays.asList(kin140));
+        assertTrue(testIndex.search("organic motor", 10).isEmpty());
+        assertTrue(testIndex.search("organic software", 10).isEmpty());
+    }
+
+    @Test
+    public void testSearchRanked() {
+        Course psyc101 = makeCourse("PSYC", "101", "Psychology of Psychology");
+        testIndex.add(psyc101);
+        List<Course> results = testIndex.search("psychology", 10);
+        assertEquals(results, Arrays.asList(psyc101, psyc305));
+    }
+
+    @Test
+    public void testAddRemove() {
+        assertEquals(testIndex.size(), 5);
+        assertTrue(testIndex.add(cpsc210));
+        assertFalse(testIndex.add(makeCourse("CPSC", "210", "Duplicate")));
+        assertEquals(testIndex.search("construction", 10), Arrays.asList(cpsc210));
+        assertTrue(testIndex.remove(chem233));
+        assertFalse(testIndex.remove(chem233));
+        assertEquals(testIndex.size(), 5);
+        assertEquals(testIndex.search("organic chemistry", 10), Arrays.asList(chem123));
+        assertTrue(testIndex.remove(kin140));
+        assertTrue(testIndex.search("motor", 10).isEmpty());
+        assertTrue(testIndex.add(chem233));
+        assertEquals(testIndex.search("organic", 10), Arrays.asList(chem123, chem233));
+    }
+
+    @Test
+    public void testRemoveRenumbers() {
+        assertTrue(testIndex.remove(chem233));
+        assertTrue(testIndex.remove(chem208));
+        assertEquals(testIndex.getNumSlots(), 5);
+        assertTrue(testIndex.remove(kin140));
+        assertEquals(testIndex.getNumSlots(), 2);
+        assertEquals(testIndex.search("chemistry", 10), Arrays.asList(chem123));
+        assertEquals(testIndex.search("psychology", 10), Arrays.asList(psyc305));
+        assertTrue(testIndex.add(cpsc210));
+        assertTrue(testIndex.add(chem233));
+        assertEquals(testIndex.search("organic", 10), Arrays.asList(chem123, chem233));
+        assertTrue(testIndex.remove(chem123));
+        assertFalse(testIndex.remove(chem123));
+        assertEquals(testIndex.search("organic", 10), Arrays.asList(chem233));
+    }
+
+    @Test
+    public void testAddRemoveChurn() {
+        for (int i = 0; i < 1000; i++) {
+            Course c = makeCourse("SUBJ", String.valueOf(i), "Churn Topic");
+            assertTrue(testIndex.add(c));
+            assertEquals(testIndex.search("churn", 10), Arrays.asList(c));
+            assertTrue(testIndex.remove(c));
+        }
+        assertEquals(testIndex.size(), 5);
+        assertTrue(testIndex.getNumSlots() <= 10);
+        assertTrue(testIndex.search("churn", 10).isEmpty());
+        assertEquals(testIndex.search("Chemistry", 10), Arrays.asList(chem233, chem123, chem208));
+    }
+
+    @Test
+    public void testSearchManySections() {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            courses.add(makeCourse("SUBJ", String.valueOf(i), "Topic " + (i % 7) + " Part " + (i % 11)));
+        }
+        TitleIndex index = new TitleIndex(courses);
+        List<Course> results = index.search("topic 3 part 5", 1000);
+        assertEquals(results.size(), 52);
+        for (Course c : results) {
+            int i = Integer.parseInt(c.getCourseCode());
+            assertTrue(i % 7 == 3 && i % 11 == 5 || i % 7 == 5 && i % 11 == 3);
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package model.planner;
+
+import exception.CourseNotFoundException;
+import model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConflictGraphTest extends PlannerTest {
+
+    private Course cpsc101, cpsc102, math101, phys101;
+    private ConflictGraph testGraph;
+
+    @BeforeEach
+    public void init() {
+        cpsc101 = makeSection("CPSC", "210", "101", MWF, "09:00", "10:00");
+        cpsc102 = makeSection("CPSC", "210", "102", TT, "09:00", "10:30");
+        math101 = makeSection("MATH", "200", "101", MWF, "09:30", "11:00");
+        phys101 = makeSection("PHYS", "200", "101", 0b11111, "10:00", "11:00");
+        testGraph = new ConflictGraph(Arrays.asList(cpsc101, cpsc102, math101, phys101));
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(testGraph.getNumSections(), 4);
+        assertEquals(testGraph.getNumConflicts(), 3);
+        assertEquals(testGraph.getSection(2), math101);
+        assertEquals(new ConflictGraph(new ArrayList<>()).getNumConflicts(), 0);
+    }
+
+    @Test
+    public void testGetConflicts() {
+        assertArrayEquals(testGraph.getConflicts(0), new int[]{2});
+        assertArrayEquals(testGraph.getConflicts(2), new int[]{0, 3});
+        assertArrayEquals(testGraph.getConflicts(3), new int[]{1, 2});
+        assertEquals(testGraph.getDegree(1), 1);
+        assertTrue(testGraph.isConflicting(3, 1));
+        assertFalse(testGraph.isConflicting(0, 3));
+    }
+
+    @Test
+    public void testGetConflictingCoursesNoException() {
+        try {
+            assertEquals(testGraph.getNumber(math101), 2);
+            assertEquals(testGraph.getConflictingCourses(phys101), Arrays.asList(cpsc102, math101));
+            assertEquals(testGraph.getConflictingCourses(new Course("CPSC", "210", "101")),
+                    Arrays.asList(math101));
+        } catch (CourseNotFoundException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testGetConflictingCoursesCourseNotFoundException() {
+        try {
+            testGraph.getConflictingCourses(new Course("CPSC", "210", "103"));
+            fail(FAIL_MSG_EENT);
+        } catch (CourseNotFoundException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMatchesPairwise() {
+        Random random = new Random(221);
+        List<Course> sections = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = 8 * 60 + random.nextInt(24) * 30;
+            sections.add(makeSection("SUBJ", String.valueOf(100 + i / 10), String.valueOf(100 + i % 10),
+                    random.nextInt(31) + 1, String.format("%02d:%02d", start / 60, start % 60),
+                    String.format("%02d:%02d", (start + 50) / 60, (start + 50) % 60)));
+        }
+        ConflictGraph graph = new ConflictGraph(sections);
+        int numConflicts = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            for (int j = 0; j < sections.size(); j++) {
+                boolean overlapping = i != j
+                        && sections.get(i).getSchedule().isOverlapping(sections.get(j).getSchedule());
+                assertEquals(graph.isConflicting(i, j), overlapping);
+                numConflicts += overlapping && i < j ? 1 : 0;
+            }
+        }
+        assertEquals(graph.getNumConflicts(), numConflicts);
+    }
+
+}
@@ -0,0 +1,84 @@
+package model.planner;
+
+import model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelTimetableGeneratorTest extends PlannerTest {
+
+    private List<Course> candidates;
+
+    @BeforeEach
+    public void init() {
+        candidates = new ArrayList<>();
+        String[] subjects = {"CPSC", "MATH", "PHYS", "CHEM", "BIOL", "STAT", "ECON"};
+        for (int s = 0; s < subjects.length; s++) {
+            for (int i = 0; i < 5; i++) {
+                int start = 8 * 60 + ((s * 5 + i * 3) % 9) * 60;
+                candidates.add(makeSection(subjects[s], "100", String.valueOf(101 + i), (s * 3 + i) % 31 + 1,
+                        String.format("%02d:%02d", start / 60, start % 60),
+                        String.format("%02d:%02d", (start + 80) / 60, (start + 80) % 60)));
+            }
+        }
+    }
+
+    @Test
+    public void testGenerateSameAsSequential() {
+        List<Timetable> expected = new TimetableGenerator(candidates).generate();
+        assertFalse(expected.isEmpty());
+        for (int parallelism : new int[]{1, 2, 4, 16}) {
+            ParallelTimetableGenerator generator = new ParallelTimetableGenerator(candidates, parallelism);
+            assertEquals(generator.getParallelism(), parallelism);
+            assertEquals(generator.generate(), expected);
+        }
+        assertEquals(new ParallelTimetableGenerator(candidates).generate(), expected);
+    }
+
+    @Test
+    public void testCountSameAsSequential() {
+        long expected = new TimetableGenerator(candidates).count();
+        assertTrue(expected > 0);
+        for (int parallelism : new int[]{1, 2, 4, 16}) {
+            assertEquals(new ParallelTimetableGenerator(candidates, parallelism).count(), expected);
+        }
+        assertEquals(new ParallelTimetableGenerator(new ArrayList<>(), 4).count(), 0);
+    }
+
+    @Test
+    public void testGenerateToConsumer() {
+        List<Timetable> expected = new TimetableGenerator(candidates).generate();
+        for (int parallelism : new int[]{1, 4}) {
+            List<Timetable> timetables = Collections.synchronizedList(new ArrayList<>());
+            new ParallelTimetableGenerator(candidates, parallelism).generate(timetables::add);
+            assertEquals(timetables.size(), expected.size());
+            assertEquals(new HashSet<>(timetables), new HashSet<>(expected));
+        }
+    }
+
+    @Test
+    public void testGenerateFewSections() {
+        Course cpsc101 = makeSection("CPSC", "210", "101", MWF, "09:00", "10:00");
+        Course cpsc102 = makeSection("CPSC", "210", "102", TT, "09:00", "10:30");
+        Course math101 = makeSection("MATH", "200", "101", MWF, "09:00", "10:00");
+        ParallelTimetableGenerator generator = new ParallelTimetableGenerator(
+                Arrays.asList(cpsc101, cpsc102, math101), 8);
+        List<Timetable> timetables = generator.generate();
+        assertEquals(timetables.size(), 1);
+        assertEquals(timetables.get(0).getSections(), Arrays.asList(math101, cpsc102));
+        assertEquals(generator.getCandidates().getNumSections(), 3);
+    }
+
+    @Test
+    public void testGenerateNoCandidates() {
+        assertTrue(new ParallelTimetableGenerator(new ArrayList<>(), 4).generate().isEmpty());
+    }
+
+}
@@ -0,0 +1,31 @@
+package model.planner;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.ModelTest;
+import model.Schedule;
+import model.Time;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+public abstract class PlannerTest extends ModelTest {
+
+    protected static final int MWF = 0b10101;
+    protected static final int TT = 0b01010;
+
+    // EFFECTS: returns a section of 3 credits meeting on days from start to end, given as "HH:MM"
+    protected Course makeSection(String subject, String course, String section,
+                                 int days, String start, String end) {
+        try {
+            Schedule schedule = Schedule.of(days,
+                    Time.of(Time.parseHour(start), Time.parseMinute(start)),
+                    Time.of(Time.parseHour(end), Time.parseMinute(end)));
+            return new Course(subject, course, section, subject + " " + course, schedule, 3, false);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+            return null;
+        }
+    }
+
+}
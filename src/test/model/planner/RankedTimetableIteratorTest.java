@@ -0,0 +1,125 @@
+package model.planner;
+
+import model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RankedTimetableIteratorTest extends PlannerTest {
+
+    private List<List<Course>> groups;
+    private TimetableOptimizer optimizer;
+
+    @BeforeEach
+    public void init() {
+        String[] subjects = {"CPSC", "MATH", "PHYS", "CHEM", "BIOL"};
+        groups = new ArrayList<>();
+        List<Course> candidates = new ArrayList<>();
+        for (int s = 0; s < subjects.length; s++) {
+            List<Course> group = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                int start = 8 * 60 + ((s * 5 + i * 3) % 7) * 60;
+                Course section = makeSection(subjects[s], "100", String.valueOf(101 + i), (s * 3 + i) % 31 + 1,
+                        String.format("%02d:%02d", start / 60, start % 60),
+                        String.format("%02d:%02d", (start + 80) / 60, (start + 80) % 60));
+                section.setRequired(s == 0);
+                if ((s + i) % 3 == 0) {
+                    section.star();
+                }
+                group.add(section);
+            }
+            groups.add(group);
+            candidates.addAll(group);
+        }
+        optimizer = new TimetableOptimizer(candidates);
+    }
+
+    @Test
+    public void testIterateAllInScoreOrder() {
+        List<ScoredTimetable> all = new ArrayList<>();
+        optimizer.iterator(7).forEachRemaining(all::add);
+        List<Timetable> expected = new ArrayList<>();
+        addAllBruteForce(0, new ArrayList<>(), expected);
+        assertEquals(all.size(), expected.size());
+        assertEquals(new HashSet<>(all.stream().map(ScoredTimetable::getTimetable).collect(Collectors.toList())),
+                new HashSet<>(expected));
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(all.get(i).getScore(), optimizer.getScorer().score(all.get(i).getTimetable()));
+            if (i > 0) {
+                assertTrue(all.get(i - 1).getScore() >= all.get(i).getScore());
+            }
+        }
+        assertEquals(all.get(0), optimizer.findBest());
+    }
+
+    @Test
+    public void testPageSizeDoesNotChangeOrder() {
+        List<ScoredTimetable> expected = optimizer.stream(1000).collect(Collectors.toList());
+        for (int pageSize : new int[]{1, 2, 5, 20}) {
+            assertEquals(optimizer.stream(pageSize).collect(Collectors.toList()), expected);
+        }
+        assertEquals(optimizer.stream(20).limit(5).collect(Collectors.toList()), expected.subList(0, 5));
+        List<ScoredTimetable> fromSpliterator = new ArrayList<>();
+        optimizer.spliterator(3).forEachRemaining(fromSpliterator::add);
+        assertEquals(fromSpliterator, expected);
+    }
+
+    @Test
+    public void testNextNoSuchElementException() {
+        Course physReq = makeSection("PHYS", "200", "101", MWF, "09:00", "11:00");
+        Course cpscReq = makeSection("CPSC", "210", "101", MWF, "10:00", "11:00");
+        physReq.setRequired(true);
+        cpscReq.setRequired(true);
+        Iterator<ScoredTimetable> iterator = new TimetableOptimizer(Arrays.asList(physReq, cpscReq)).iterator(4);
+        assertFalse(iterator.hasNext());
+        try {
+            iterator.next();
+            fail(FAIL_MSG_EENT);
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+
+        iterator = new TimetableOptimizer(Arrays.asList(physReq)).iterator(1);
+        assertEquals(((RankedTimetableIterator) iterator).getPageSize(), 1);
+        assertEquals(iterator.next().getTimetable().getSections(), Arrays.asList(physReq));
+        assertFalse(iterator.hasNext());
+    }
+
+    private void addAllBruteForce(int g, List<Course> chosen, List<Timetable> timetables) {
+        if (g == groups.size()) {
+            if (!hasConflict(chosen)) {
+                timetables.add(new Timetable(chosen));
+            }
+            return;
+        }
+        for (Course c : groups.get(g)) {
+            chosen.add(c);
+            addAllBruteForce(g + 1, chosen, timetables);
+            chosen.remove(chosen.size() - 1);
+        }
+        if (!groups.get(g).get(0).isRequired()) {
+            addAllBruteForce(g + 1, chosen, timetables);
+        }
+    }
+
+    private boolean hasConflict(List<Course> sections) {
+        for (int i = 0; i < sections.size(); i++) {
+            for (int j = i + 1; j < sections.size(); j++) {
+                if (sections.get(i).getSchedule().isOverlapping(sections.get(j).getSchedule())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,73 @@
+package model.planner;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.Schedule;
+import model.Time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Compares the throughput of the sequential and the parallel timetable generators on a random
+// set of candidate sections, counting the timetables without keeping them, so that large search
+// spaces fit in memory; run as a program, with optional arguments
+// <number of courses> <sections per course> <maximum parallelism>
+public class TimetableGeneratorBenchmark {
+
+    private static final String[] SUBJECTS = {"CPSC", "MATH", "PHYS", "CHEM", "BIOL", "STAT", "ECON", "ENGL",
+            "PSYC", "PHIL"};
+    private static final int[] DAY_MASKS = {0b10101, 0b01010, 0b00101, 0b10100, 0b00010, 0b01000, 0b11111};
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IllegalDaysException, IllegalTimeException {
+        int numCourses = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int numSections = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int maxParallelism = args.length > 2 ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+        List<Course> candidates = makeCandidates(numCourses, numSections, new Random(210));
+
+        long count = new TimetableGenerator(candidates).count();
+        System.out.printf("%d courses x %d sections: %d timetables%n", numCourses, numSections, count);
+        double sequential = measure(() -> new TimetableGenerator(candidates).count());
+        System.out.printf("sequential     %10.1f ms%n", sequential);
+        for (int p = 1; p <= maxParallelism; p *= 2) {
+            int parallelism = p;
+            double parallel = measure(() -> new ParallelTimetableGenerator(candidates, parallelism).count());
+            System.out.printf("parallel x%-3d %10.1f ms  speedup %.2f%n", p, parallel, sequential / parallel);
+        }
+    }
+
+    // EFFECTS: returns numSections random sections of each of numCourses courses
+    private static List<Course> makeCandidates(int numCourses, int numSections, Random random)
+            throws IllegalDaysException, IllegalTimeException {
+        List<Course> candidates = new ArrayList<>();
+        for (int c = 0; c < numCourses; c++) {
+            for (int s = 0; s < numSections; s++) {
+                int start = 8 * 60 + random.nextInt(20) * 30;
+                Schedule schedule = Schedule.of(DAY_MASKS[random.nextInt(DAY_MASKS.length)],
+                        Time.ofMinuteOfDay(start), Time.ofMinuteOfDay(start + 50 + random.nextInt(2) * 30));
+                candidates.add(new Course(SUBJECTS[c % SUBJECTS.length], String.valueOf(100 + c / SUBJECTS.length),
+                        String.valueOf(101 + s), "Course " + c, schedule, 3, false));
+            }
+        }
+        return candidates;
+    }
+
+    // EFFECTS: returns the mean time in milliseconds of ROUNDS runs of search, after one warm-up run
+    private static double measure(Search search) {
+        search.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            search.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+
+    // Represents one run of a timetable search, returning the number of timetables found
+    private interface Search {
+        long run();
+    }
+
+}
@@ -0,0 +1,131 @@
+package model.planner;
+
+import model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimetableGeneratorTest extends PlannerTest {
+
+    private Course cpsc101, cpsc102, math101, math102, phys101;
+
+    @BeforeEach
+    public void init() {
+        cpsc101 = makeSection("CPSC", "210", "101", MWF, "09:00", "10:00");
+        cpsc102 = makeSection("CPSC", "210", "102", TT, "09:00", "10:30");
+        math101 = makeSection("MATH", "200", "101", MWF, "09:00", "10:00");
+        math102 = makeSection("MATH", "200", "102", MWF, "10:00", "11:00");
+        phys101 = makeSection("PHYS", "200", "101", TT, "09:30", "11:00");
+    }
+
+    @Test
+    public void testGenerateSingleSolution() {
+        TimetableGenerator generator = new TimetableGenerator(
+                Arrays.asList(cpsc101, cpsc102, math101, math102, phys101));
+        List<Timetable> timetables = generator.generate();
+        assertEquals(timetables.size(), 1);
+        assertEquals(timetables.get(0).getSections(), Arrays.asList(phys101, cpsc101, math102));
+        assertEquals(timetables.get(0).getTotalCredits(), 9);
+    }
+
+    @Test
+    public void testGenerateAllCombinations() {
+        TimetableGenerator generator = new TimetableGenerator(
+                Arrays.asList(cpsc101, cpsc102, math101, math102));
+        List<Timetable> timetables = generator.generate();
+        assertEquals(timetables.size(), 3);
+        assertEquals(timetables.get(0).getSections(), Arrays.asList(cpsc101, math102));
+        assertEquals(timetables.get(1).getSections(), Arrays.asList(cpsc102, math101));
+        assertEquals(timetables.get(2).getSections(), Arrays.asList(cpsc102, math102));
+    }
+
+    @Test
+    public void testGenerateNoSolution() {
+        Course phys102 = makeSection("PHYS", "200", "102", MWF, "09:00", "11:00");
+        TimetableGenerator generator = new TimetableGenerator(
+                Arrays.asList(cpsc101, math101, math102, phys102));
+        assertTrue(generator.generate().isEmpty());
+    }
+
+    @Test
+    public void testGenerateEmptyAndRepeatedCandidates() {
+        assertTrue(new TimetableGenerator(new ArrayList<>()).generate().isEmpty());
+
+        TimetableGenerator generator = new TimetableGenerator(Arrays.asList(cpsc101, cpsc101,
+                new Course("CPSC", "210", "101", "Duplicate", cpsc102.getSchedule(), 4, true)));
+        assertEquals(generator.getCandidates().getNumSections(), 1);
+        assertEquals(generator.generate().size(), 1);
+    }
+
+    @Test
+    public void testGenerateToConsumer() {
+        TimetableGenerator generator = new TimetableGenerator(
+                Arrays.asList(cpsc101, cpsc102, math101, math102));
+        List<Timetable> timetables = new ArrayList<>();
+        generator.generate(timetables::add);
+        assertEquals(timetables, generator.generate());
+    }
+
+    @Test
+    public void testCount() {
+        TimetableGenerator generator = new TimetableGenerator(
+                Arrays.asList(cpsc101, cpsc102, math101, math102));
+        assertEquals(generator.count(), generator.generate().size());
+        assertEquals(new TimetableGenerator(new ArrayList<>()).count(), 0);
+    }
+
+    @Test
+    public void testGenerateMatchesBruteForce() {
+        List<List<Course>> groups = new ArrayList<>();
+        List<Course> candidates = new ArrayList<>();
+        String[] subjects = {"CPSC", "MATH", "PHYS", "CHEM", "BIOL", "STAT"};
+        for (int s = 0; s < subjects.length; s++) {
+            List<Course> group = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int start = 8 * 60 + ((s * 5 + i * 3) % 8) * 60;
+                group.add(makeSection(subjects[s], "100", String.valueOf(101 + i), (s + i) % 31 + 1,
+                        String.format("%02d:%02d", start / 60, start % 60),
+                        String.format("%02d:%02d", (start + 80) / 60, (start + 80) % 60)));
+            }
+            groups.add(group);
+            candidates.addAll(group);
+        }
+        List<Timetable> timetables = new TimetableGenerator(candidates).generate();
+        assertFalse(timetables.isEmpty());
+        assertEquals(timetables.size(), countBruteForce(groups, 0, new ArrayList<>()));
+        for (Timetable t : timetables) {
+            assertEquals(t.getSections().size(), subjects.length);
+            assertFalse(hasConflict(t.getSections()));
+        }
+    }
+
+    private int countBruteForce(List<List<Course>> groups, int g, List<Course> chosen) {
+        if (g == groups.size()) {
+            return hasConflict(chosen) ? 0 : 1;
+        }
+        int count = 0;
+        for (Course c : groups.get(g)) {
+            chosen.add(c);
+            count += countBruteForce(groups, g + 1, chosen);
+            chosen.remove(chosen.size() - 1);
+        }
+        return count;
+    }
+
+    private boolean hasConflict(List<Course> sections) {
+        for (int i = 0; i < sections.size(); i++) {
+            for (int j = i + 1; j < sections.size(); j++) {
+                if (sections.get(i).getSchedule().isOverlapping(sections.get(j).getSchedule())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
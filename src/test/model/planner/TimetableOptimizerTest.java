@@ -0,0 +1,144 @@
+package model.planner;
+
+import model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimetableOptimizerTest extends PlannerTest {
+
+    private Course cpscMWF, cpscTT, mathMWF, mathTT, physMWF;
+
+    @BeforeEach
+    public void init() {
+        cpscMWF = makeSection("CPSC", "210", "101", MWF, "09:00", "10:00");
+        cpscTT = makeSection("CPSC", "210", "102", TT, "09:00", "10:30");
+        mathMWF = makeSection("MATH", "200", "101", MWF, "10:00", "11:00");
+        mathTT = makeSection("MATH", "200", "102", TT, "14:00", "15:30");
+        physMWF = makeSection("PHYS", "200", "101", MWF, "09:00", "11:00");
+    }
+
+    @Test
+    public void testFindBestFewestDays() {
+        TimetableOptimizer optimizer = new TimetableOptimizer(Arrays.asList(cpscMWF, cpscTT, mathMWF, mathTT));
+        ScoredTimetable best = optimizer.findBest();
+        assertEquals(best.getTimetable().getSections(), Arrays.asList(cpscMWF, mathMWF));
+        assertEquals(best.getScore(), optimizer.getScorer().score(best.getTimetable()));
+        assertFalse(optimizer.isTimedOut());
+    }
+
+    @Test
+    public void testFindBestFewestGaps() {
+        Course mathLate = makeSection("MATH", "200", "103", MWF, "15:00", "16:00");
+        TimetableOptimizer optimizer = new TimetableOptimizer(Arrays.asList(cpscMWF, mathLate, mathMWF));
+        assertEquals(optimizer.findBest().getTimetable().getSections(), Arrays.asList(cpscMWF, mathMWF));
+    }
+
+    @Test
+    public void testFindBestPrefersStarred() {
+        mathTT.star();
+        cpscTT.star();
+        TimetableOptimizer optimizer = new TimetableOptimizer(Arrays.asList(cpscMWF, cpscTT, mathMWF, mathTT));
+        assertEquals(optimizer.findBest().getTimetable().getSections(), Arrays.asList(cpscTT, mathTT));
+    }
+
+    @Test
+    public void testFindBestSkipsOptionalCourse() {
+        physMWF.setRequired(true);
+        TimetableOptimizer optimizer = new TimetableOptimizer(Arrays.asList(physMWF, cpscMWF, mathMWF));
+        assertEquals(optimizer.findBest().getTimetable().getSections(), Arrays.asList(physMWF));
+
+        physMWF.setRequired(false);
+        optimizer = new TimetableOptimizer(Arrays.asList(physMWF, cpscMWF, mathMWF));
+        assertEquals(optimizer.findBest().getTimetable().getSections(), Arrays.asList(cpscMWF, mathMWF));
+    }
+
+    @Test
+    public void testFindBestRequiredInfeasible() {
+        physMWF.setRequired(true);
+        cpscMWF.setRequired(true);
+        assertNull(new TimetableOptimizer(Arrays.asList(physMWF, cpscMWF, mathMWF)).findBest());
+        assertEquals(new TimetableOptimizer(new ArrayList<>()).findBest().getScore(), 0);
+    }
+
+    @Test
+    public void testFindBestMatchesBruteForce() {
+        List<List<Course>> groups = makeGroups(6, 4);
+        List<Course> candidates = new ArrayList<>();
+        for (List<Course> group : groups) {
+            candidates.addAll(group);
+        }
+        TimetableOptimizer optimizer = new TimetableOptimizer(candidates);
+        ScoredTimetable best = optimizer.findBest();
+        assertEquals(best.getScore(), bestBruteForce(optimizer.getScorer(), groups, 0, new ArrayList<>()));
+        assertEquals(best.getScore(), optimizer.getScorer().score(best.getTimetable()));
+    }
+
+    @Test
+    public void testFindBestWithinBudget() {
+        List<Course> candidates = new ArrayList<>();
+        for (List<Course> group : makeGroups(14, 16)) {
+            candidates.addAll(group);
+        }
+        TimetableOptimizer optimizer = new TimetableOptimizer(candidates, new TimetableScorer(100, 0, 1, 1));
+        long start = System.nanoTime();
+        ScoredTimetable best = optimizer.findBest(20);
+        assertTrue(System.nanoTime() - start < 2000000000L);
+        assertTrue(optimizer.isTimedOut());
+        assertNotNull(best);
+        assertEquals(best.getScore(), optimizer.getScorer().score(best.getTimetable()));
+    }
+
+    private List<List<Course>> makeGroups(int numGroups, int numSections) {
+        String[] subjects = {"CPSC", "MATH", "PHYS", "CHEM", "BIOL", "STAT", "ECON"};
+        List<List<Course>> groups = new ArrayList<>();
+        for (int s = 0; s < numGroups; s++) {
+            List<Course> group = new ArrayList<>();
+            for (int i = 0; i < numSections; i++) {
+                int start = 8 * 60 + ((s * 5 + i * 3) % 9) * 60;
+                Course section = makeSection(subjects[s % subjects.length], String.valueOf(100 + s),
+                        String.valueOf(101 + i), (s * 3 + i) % 31 + 1,
+                        String.format("%02d:%02d", start / 60, start % 60),
+                        String.format("%02d:%02d", (start + 80) / 60, (start + 80) % 60));
+                section.setRequired(s == 0);
+                if ((s + i) % 3 == 0) {
+                    section.star();
+                }
+                group.add(section);
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    private long bestBruteForce(TimetableScorer scorer, List<List<Course>> groups, int g, List<Course> chosen) {
+        if (g == groups.size()) {
+            return hasConflict(chosen) ? Long.MIN_VALUE : scorer.score(new Timetable(chosen));
+        }
+        long best = groups.get(g).get(0).isRequired() ? Long.MIN_VALUE
+                : bestBruteForce(scorer, groups, g + 1, chosen);
+        for (Course c : groups.get(g)) {
+            chosen.add(c);
+            best = Math.max(best, bestBruteForce(scorer, groups, g + 1, chosen));
+            chosen.remove(chosen.size() - 1);
+        }
+        return best;
+    }
+
+    private boolean hasConflict(List<Course> sections) {
+        for (int i = 0; i < sections.size(); i++) {
+            for (int j = i + 1; j < sections.size(); j++) {
+                if (sections.get(i).getSchedule().isOverlapping(sections.get(j).getSchedule())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,35 @@
+package model.planner;
+
+import model.Course;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimetableScorerTest extends PlannerTest {
+
+    @Test
+    public void testDefaultWeights() {
+        TimetableScorer scorer = new TimetableScorer();
+        assertEquals(scorer.getCourseWeight(), TimetableScorer.DEFAULT_COURSE_WEIGHT);
+        assertEquals(scorer.getStarWeight(), TimetableScorer.DEFAULT_STAR_WEIGHT);
+        assertEquals(scorer.getGapWeight(), TimetableScorer.DEFAULT_GAP_WEIGHT);
+        assertEquals(scorer.getDayWeight(), TimetableScorer.DEFAULT_DAY_WEIGHT);
+        assertEquals(scorer.score(new Timetable(new ArrayList<>())), 0);
+    }
+
+    @Test
+    public void testScore() {
+        TimetableScorer scorer = new TimetableScorer(100, 10, 1, 5);
+        Course morningMWF = makeSection("CPSC", "210", "101", MWF, "09:00", "10:00");
+        Course noonMWF = makeSection("MATH", "200", "101", MWF, "11:00", "12:00");
+        noonMWF.star();
+        assertEquals(scorer.getSectionPoints(morningMWF), 100);
+        assertEquals(scorer.getSectionPoints(noonMWF), 110);
+        assertEquals(scorer.getDayPenalty(3), 15);
+        assertEquals(scorer.score(new Timetable(Arrays.asList(morningMWF, noonMWF))), 210 - 3 * 60 - 15);
+    }
+
+}
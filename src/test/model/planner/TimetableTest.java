@@ -0,0 +1,48 @@
+package model.planner;
+
+import model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimetableTest extends PlannerTest {
+
+    private Course morningMWF, noonMWF, afternoonTT, fridayEvening;
+
+    @BeforeEach
+    public void init() {
+        morningMWF = makeSection("CPSC", "210", "101", MWF, "09:00", "10:00");
+        noonMWF = makeSection("MATH", "200", "101", MWF, "12:00", "13:30");
+        afternoonTT = makeSection("PHYS", "200", "101", TT, "14:00", "15:30");
+        fridayEvening = makeSection("ENGL", "110", "101", 0b10000, "18:00", "19:00");
+    }
+
+    @Test
+    public void testGetSectionsAndCredits() {
+        Timetable timetable = new Timetable(Arrays.asList(morningMWF, afternoonTT));
+        assertEquals(timetable.getSections(), Arrays.asList(morningMWF, afternoonTT));
+        assertEquals(timetable.getTotalCredits(), 6);
+        assertEquals(timetable, new Timetable(Arrays.asList(morningMWF, afternoonTT)));
+        assertNotEquals(timetable, new Timetable(Arrays.asList(afternoonTT, morningMWF)));
+    }
+
+    @Test
+    public void testGetNumDays() {
+        assertEquals(new Timetable(new ArrayList<>()).getNumDays(), 0);
+        assertEquals(new Timetable(Arrays.asList(morningMWF, noonMWF)).getNumDays(), 3);
+        assertEquals(new Timetable(Arrays.asList(morningMWF, afternoonTT)).getNumDays(), 5);
+    }
+
+    @Test
+    public void testGetGapMinutes() {
+        assertEquals(new Timetable(Arrays.asList(morningMWF, afternoonTT)).getGapMinutes(), 0);
+        assertEquals(new Timetable(Arrays.asList(noonMWF, morningMWF)).getGapMinutes(), 3 * 120);
+        assertEquals(new Timetable(Arrays.asList(fridayEvening, noonMWF, morningMWF)).getGapMinutes(),
+                3 * 120 + 270);
+    }
+
+}
@@ -0,0 +1,92 @@
+package persistence;
+
+import model.Course;
+import model.Worklist;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BinaryReaderTest extends JsonTest {
+
+    @Test
+    public void testReaderNonExistentFile() {
+        assertInvalid("./data/noSuchFile.bin");
+    }
+
+    @Test
+    public void testReaderNotBinaryWorklist() {
+        assertInvalid("./data/testReaderGeneralWorklist.json");
+    }
+
+    @Test
+    public void testReaderFutureVersion() {
+        assertInvalid("./data/testReaderFutureVersionWorklist.bin");
+    }
+
+    @Test
+    public void testReaderTruncatedWorklist() {
+        assertInvalid("./data/testReaderTruncatedWorklist.bin");
+    }
+
+    @Test
+    public void testReaderCorruptCourseCount() {
+        assertInvalid("./data/testReaderCorruptCountWorklist.bin");
+    }
+
+    @Test
+    public void testReaderCorruptStringCount() {
+        assertInvalid("./data/testReaderCorruptStringsWorklist.bin");
+    }
+
+    @Test
+    public void testReaderCorruptStringLength() {
+        assertInvalid("./data/testReaderCorruptLengthWorklist.bin");
+    }
+
+    @Test
+    public void testReaderEmptyWorklist() {
+        try {
+            Worklist testWorklist = new BinaryReader("./data/testReaderEmptyWorklist.bin").read();
+            assertEquals("Test Worklist", testWorklist.getName());
+            assertEquals(0, testWorklist.getCourses().size());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testReaderGeneralWorklist() {
+        try {
+            initSchedules();
+            Worklist testWorklist = new BinaryReader("./data/testReaderGeneralWorklist.bin").read();
+            assertEquals("Test Worklist", testWorklist.getName());
+            List<Course> testCourses = testWorklist.getCourses();
+            assertEquals(3, testCourses.size());
+            checkCourse("CHEM", "208", "112",
+                    "Coordination Chemistry",
+                    testSchedule1, 3, true, true, testCourses.get(0));
+            checkCourse("KIN", "140", "002",
+                    "Lifespan Motor Development",
+                    testSchedule2, 3, false, true, testCourses.get(1));
+            checkCourse("PHYS", "200", "101",
+                    "Relativity and Quanta",
+                    testSchedule3, 4, true, false, testCourses.get(2));
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private void assertInvalid(String source) {
+        try {
+            new BinaryReader(source).read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package persistence;
+
+import exception.CourseAlreadyExistsException;
+import exception.CourseConflictsException;
+import model.Course;
+import model.Schedule;
+import model.Time;
+import model.Worklist;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BinaryWriterTest extends JsonTest {
+
+    @Test
+    public void testWriterInvalidFile() {
+        try {
+            BinaryWriter writer = new BinaryWriter("./data/my\0illegal:fileName.bin");
+            writer.open();
+            writer.write(new Worklist("Test Worklist"));
+            writer.close();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException | RuntimeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWriterGeneralWorklist() {
+        try {
+            initCourses();
+            Worklist testWorklist = new Worklist("Test Worklist");
+            testWorklist.addCourse(testCourse1);
+            testWorklist.addCourse(testCourse2);
+            testWorklist.addCourse(testCourse3);
+
+            BinaryWriter writer = new BinaryWriter("./data/testWriterGeneralWorklist.bin");
+            writer.open();
+            writer.write(testWorklist);
+            writer.close();
+
+            testWorklist = new BinaryReader("./data/testWriterGeneralWorklist.bin").read();
+            assertEquals("Test Worklist", testWorklist.getName());
+            List<Course> testCourses = testWorklist.getCourses();
+            assertEquals(3, testCourses.size());
+            checkCourse("CPSC", "221", "103",
+                    "Basic Algorithms and Data Structures",
+                    testSchedule1, 4, true, true, testCourses.get(0));
+            checkCourse("CPSC", "213", "102",
+                    "Introduction to Computer Systems",
+                    testSchedule2, 4, true, false, testCourses.get(1));
+            checkCourse("PSYC", "305A", "001",
+                    "Personality Psychology",
+                    testSchedule3, 3, false, false, testCourses.get(2));
+        } catch (IOException | CourseAlreadyExistsException | CourseConflictsException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testWriterEdgeValues() {
+        try {
+            Schedule schedule = Schedule.of(0b11111, Time.ofMinuteOfDay(1439), Time.ofMinuteOfDay(0));
+            Course course = new Course("ÉTUDE", "100", "001", null, schedule, 300, false, true);
+            Worklist testWorklist = new Worklist("Édition");
+            testWorklist.addCourse(course);
+
+            BinaryWriter writer = new BinaryWriter("./data/testWriterEdgeWorklist.bin");
+            writer.open();
+            writer.write(testWorklist);
+            writer.close();
+
+            testWorklist = new BinaryReader("./data/testWriterEdgeWorklist.bin").read();
+            assertEquals("Édition", testWorklist.getName());
+            Course c = testWorklist.getCourses().get(0);
+            assertEquals(c.getSubjectCode(), "ÉTUDE");
+            assertNull(c.getTitle());
+            assertEquals(c.getSchedule(), schedule);
+            assertEquals(c.getCredits(), 300);
+            assertEquals(c.isStarred(), true);
+        } catch (Exception e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+}
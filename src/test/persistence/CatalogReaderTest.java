@@ -0,0 +1,61 @@
+package persistence;
+
+import model.Course;
+import model.CourseKey;
+import model.catalog.CourseCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogReaderTest extends JsonTest {
+
+    @Test
+    public void testReaderNonExistentFile() {
+        try {
+            new CatalogReader("./data/noSuchFile.json").read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReaderInvalidCatalog() {
+        try {
+            new CatalogReader("./data/testReaderInvalidWorklist.json").read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReaderCatalog() {
+        try {
+            initSchedules();
+            CourseCatalog catalog = new CatalogReader("./data/testReaderCatalog.json").read();
+            assertEquals(catalog.getTerm(), "2021W1");
+            assertEquals(catalog.size(), 6);
+            assertEquals(catalog.getSectionsOfSubject("CPSC").size(), 3);
+            Course kin = catalog.getSection(CourseKey.of("KIN", "140", "002"));
+            checkCourse("KIN", "140", "002", "Lifespan Motor Development",
+                    testSchedule2, 3, false, false, kin);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testReaderTermCatalog() {
+        try {
+            CourseCatalog catalog = new CatalogReader("./data/catalog.json").read();
+            assertEquals(catalog.size(), 74);
+            assertEquals(catalog.getSectionsOfCourse("CPSC", "210").size(), 4);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+}
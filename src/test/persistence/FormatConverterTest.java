@@ -0,0 +1,60 @@
+package persistence;
+
+import model.Worklist;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class FormatConverterTest extends JsonTest {
+
+    private static final String[] FIXTURES = {"testReaderEmptyWorklist", "testReaderGeneralWorklist",
+            "testReaderReorderedWorklist", "testWriterGeneralWorklist", "worklist"};
+
+    @Test
+    public void testRoundTripFixtures() {
+        try {
+            for (String fixture : FIXTURES) {
+                String json = "./data/" + fixture + ".json";
+                FormatConverter.toBinary(json, "./data/testConverter.bin");
+                FormatConverter.toJson("./data/testConverter.bin", "./data/testConverter.json", false);
+                Worklist expected = new JsonStreamReader(json).read();
+                assertSameWorklist(new BinaryReader("./data/testConverter.bin").read(), expected);
+                assertSameWorklist(new JsonReader("./data/testConverter.json").read(), expected);
+                assertTrue(new File("./data/testConverter.bin").length() < new File(json).length() / 2);
+            }
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testToBinaryInvalidWorklist() {
+        try {
+            FormatConverter.toBinary("./data/testReaderInvalidWorklist.json", "./data/testConverter.bin");
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testToJsonInvalidWorklist() {
+        try {
+            FormatConverter.toJson("./data/testReaderGeneralWorklist.json", "./data/testConverter.json", true);
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    private void assertSameWorklist(Worklist worklist, Worklist expected) {
+        JSONObject json = new JSONObject(worklist.toJson().toString());
+        assertTrue(json.similar(new JSONObject(expected.toJson().toString())));
+    }
+
+}
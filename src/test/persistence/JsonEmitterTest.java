@@ -0,0 +1,77 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class JsonEmitterTest extends JsonTest {
+
+    private String emit(int indent) throws IOException {
+        StringWriter out = new StringWriter();
+        JsonEmitter emitter = new JsonEmitter(out, indent);
+        emitter.beginObject();
+        emitter.name("a");
+        emitter.beginArray();
+        emitter.value(1);
+        emitter.value(true);
+        emitter.value((String) null);
+        emitter.endArray();
+        emitter.name("b");
+        emitter.beginObject();
+        emitter.endObject();
+        emitter.name("c");
+        emitter.beginArray();
+        emitter.endArray();
+        emitter.name("d");
+        emitter.value("x");
+        emitter.endObject();
+        emitter.close();
+        return out.toString();
+    }
+
+    @Test
+    public void testCompact() {
+        try {
+            assertEquals(emit(0), "{\"a\":[1,true,null],\"b\":{},\"c\":[],\"d\":\"x\"}");
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testIndented() {
+        try {
+            assertEquals(emit(2), "{\n  \"a\": [\n    1,\n    true,\n    null\n  ],\n  \"b\": {},\n  \"c\": [],\n"
+                    + "  \"d\": \"x\"\n}");
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testEscapes() {
+        String s = "a\"b\\c/d\b\f\n\r\t\u0001é";
+        try {
+            StringWriter out = new StringWriter();
+            JsonEmitter emitter = new JsonEmitter(out, 0);
+            emitter.beginArray();
+            emitter.value(s);
+            emitter.value(false);
+            emitter.endArray();
+            emitter.flush();
+            assertEquals(out.toString(), "[\"a\\\"b\\\\c/d\\b\\f\\n\\r\\t\\u0001é\",false]");
+
+            JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(out.toString()));
+            tokenizer.beginArray();
+            assertEquals(tokenizer.nextString(), s);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package persistence;
+
+import model.Course;
+import model.Worklist;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class JsonStreamReaderTest extends JsonTest {
+
+    @Test
+    public void testReaderNonExistentFile() {
+        try {
+            JsonStreamReader reader = new JsonStreamReader("./data/noSuchFile.json");
+            reader.read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReaderInvalidWorklist() {
+        try {
+            JsonStreamReader reader = new JsonStreamReader("./data/testReaderInvalidWorklist.json");
+            reader.read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReaderNotWorklist() {
+        try {
+            JsonStreamReader reader = new JsonStreamReader("./data/testReaderCatalog.json");
+            reader.read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReaderEmptyWorklist() {
+        try {
+            JsonStreamReader reader = new JsonStreamReader("./data/testReaderEmptyWorklist.json");
+            Worklist testWorklist = reader.read();
+            assertEquals("Test Worklist", testWorklist.getName());
+            assertEquals(0, testWorklist.getCourses().size());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testReaderGeneralWorklist() {
+        try {
+            initSchedules();
+            JsonStreamReader reader = new JsonStreamReader("./data/testReaderGeneralWorklist.json");
+            Worklist testWorklist = reader.read();
+            assertEquals("Test Worklist", testWorklist.getName());
+            checkGeneralCourses(testWorklist.getCourses());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testReaderReorderedWorklist() {
+        try {
+            initSchedules();
+            JsonStreamReader reader = new JsonStreamReader("./data/testReaderReorderedWorklist.json");
+            Worklist testWorklist = reader.read();
+            assertEquals("Test Worklist", testWorklist.getName());
+            checkGeneralCourses(testWorklist.getCourses());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testForEachCourse() {
+        try {
+            initSchedules();
+            List<Course> courses = new ArrayList<>();
+            new JsonStreamReader("./data/testReaderReorderedWorklist.json").forEachCourse(courses::add);
+            checkGeneralCourses(courses);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testReaderMatchesJsonReader() {
+        try {
+            Worklist expected = new JsonReader("./data/worklist.json").read();
+            Worklist testWorklist = new JsonStreamReader("./data/worklist.json").read();
+            assertEquals(testWorklist.getName(), expected.getName());
+            assertEquals(testWorklist.getCourses().size(), expected.getCourses().size());
+            for (int i = 0; i < expected.getCourses().size(); i++) {
+                Course c = expected.getCourses().get(i);
+                checkCourse(c.getSubjectCode(), c.getCourseCode(), c.getSectionCode(), c.getTitle(),
+                        c.getSchedule(), c.getCredits(), c.isRequired(), c.isStarred(),
+                        testWorklist.getCourses().get(i));
+            }
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private void checkGeneralCourses(List<Course> testCourses) {
+        assertEquals(3, testCourses.size());
+        checkCourse("CHEM", "208", "112",
+                "Coordination Chemistry",
+                testSchedule1, 3, true, true, testCourses.get(0));
+        checkCourse("KIN", "140", "002",
+                "Lifespan Motor Development",
+                testSchedule2, 3, false, true, testCourses.get(1));
+        checkCourse("PHYS", "200", "101",
+                "Relativity and Quanta",
+                testSchedule3, 4, true, false, testCourses.get(2));
+    }
+
+}
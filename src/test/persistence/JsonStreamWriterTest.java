@@ -0,0 +1,120 @@
+package persistence;
+
+import exception.CourseAlreadyExistsException;
+import exception.CourseConflictsException;
+import model.Course;
+import model.Worklist;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonStreamWriterTest extends JsonTest {
+
+    @Test
+    public void testWriterInvalidFile() {
+        try {
+            Worklist testWorklist = new Worklist("Test Worklist");
+
+            JsonStreamWriter writer = new JsonStreamWriter("./data/my\0illegal:fileName.json");
+            writer.open();
+            writer.write(testWorklist);
+            writer.close();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException | RuntimeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWriterEmptyWorklist() {
+        try {
+            Worklist testWorklist = new Worklist("Test Worklist");
+
+            JsonStreamWriter writer = new JsonStreamWriter("./data/testStreamWriterEmptyWorklist.json");
+            writer.open();
+            writer.write(testWorklist);
+            writer.close();
+
+            JsonReader reader = new JsonReader("./data/testStreamWriterEmptyWorklist.json");
+            testWorklist = reader.read();
+            assertEquals("Test Worklist", testWorklist.getName());
+            assertEquals(0, testWorklist.getCourses().size());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testWriterGeneralWorklist() {
+        try {
+            Worklist testWorklist = makeGeneralWorklist();
+
+            JsonStreamWriter writer = new JsonStreamWriter("./data/testStreamWriterGeneralWorklist.json");
+            writer.open();
+            writer.write(testWorklist);
+            writer.close();
+
+            String json = JsonReader.readFile("./data/testStreamWriterGeneralWorklist.json");
+            assertTrue(new JSONObject(json).similar(new JSONObject(testWorklist.toJson().toString())));
+            checkGeneralCourses(new JsonReader("./data/testStreamWriterGeneralWorklist.json").read());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testWriterCompactWorklist() {
+        try {
+            Worklist testWorklist = makeGeneralWorklist();
+
+            JsonStreamWriter writer = new JsonStreamWriter("./data/testStreamWriterCompactWorklist.json", true);
+            writer.open();
+            writer.write(testWorklist);
+            writer.close();
+
+            Path path = Paths.get("./data/testStreamWriterCompactWorklist.json");
+            assertEquals(Files.readAllLines(path).size(), 1);
+            String json = JsonReader.readFile(path.toString());
+            assertTrue(new JSONObject(json).similar(new JSONObject(testWorklist.toJson().toString())));
+            checkGeneralCourses(new JsonStreamReader("./data/testStreamWriterCompactWorklist.json").read());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private Worklist makeGeneralWorklist() {
+        initCourses();
+        Worklist testWorklist = new Worklist("Test Worklist");
+        try {
+            testWorklist.addCourse(testCourse1);
+            testWorklist.addCourse(testCourse2);
+            testWorklist.addCourse(testCourse3);
+        } catch (CourseAlreadyExistsException | CourseConflictsException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        return testWorklist;
+    }
+
+    private void checkGeneralCourses(Worklist testWorklist) {
+        assertEquals("Test Worklist", testWorklist.getName());
+        List<Course> testCourses = testWorklist.getCourses();
+        assertEquals(3, testCourses.size());
+        checkCourse("CPSC", "221", "103",
+                "Basic Algorithms and Data Structures",
+                testSchedule1, 4, true, true, testCourses.get(0));
+        checkCourse("CPSC", "213", "102",
+                "Introduction to Computer Systems",
+                testSchedule2, 4, true, false, testCourses.get(1));
+        checkCourse("PSYC", "305A", "001",
+                "Personality Psychology",
+                testSchedule3, 3, false, false, testCourses.get(2));
+    }
+
+}
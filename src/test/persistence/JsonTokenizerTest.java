@@ -0,0 +1,162 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static persistence.JsonTokenizer.Token.*;
+
+public class JsonTokenizerTest extends JsonTest {
+
+    private JsonTokenizer tokenize(String json) {
+        return new JsonTokenizer(new StringReader(json));
+    }
+
+    @Test
+    public void testTokens() {
+        try {
+            JsonTokenizer tokenizer = tokenize(" {\"a\" : [1, -20, true, false, null, \"x\"],\n\t\"b\":{}, \"c\":[]} ");
+            tokenizer.beginObject();
+            assertEquals(tokenizer.nextName(), "a");
+            tokenizer.beginArray();
+            assertEquals(tokenizer.nextInt(), 1);
+            assertEquals(tokenizer.nextInt(), -20);
+            assertTrue(tokenizer.nextBoolean());
+            assertFalse(tokenizer.nextBoolean());
+            tokenizer.nextNull();
+            assertTrue(tokenizer.hasNext());
+            assertEquals(tokenizer.peek(), STRING);
+            assertEquals(tokenizer.nextString(), "x");
+            assertFalse(tokenizer.hasNext());
+            tokenizer.endArray();
+            assertEquals(tokenizer.nextName(), "b");
+            tokenizer.beginObject();
+            assertFalse(tokenizer.hasNext());
+            tokenizer.endObject();
+            assertEquals(tokenizer.nextName(), "c");
+            tokenizer.beginArray();
+            tokenizer.endArray();
+            tokenizer.endObject();
+            assertEquals(tokenizer.peek(), END_DOCUMENT);
+            assertFalse(tokenizer.hasNext());
+            tokenizer.close();
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testStringEscapes() {
+        try {
+            JsonTokenizer tokenizer = tokenize("[\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\\u00e9\\u4E2D\"]");
+            tokenizer.beginArray();
+            assertEquals(tokenizer.nextString(), "a\"b\\c/d\b\f\n\r\t\u00e9\u4e2d");
+            tokenizer.endArray();
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testLongValuesAcrossBuffers() {
+        StringBuilder json = new StringBuilder("[\"");
+        for (int i = 0; i < 20000; i++) {
+            json.append(i % 10 == 0 ? "\\n" : "x");
+        }
+        json.append("\", 1234567");
+        for (int i = 0; i < 3000; i++) {
+            json.append(", ").append(i);
+        }
+        json.append("]");
+        try {
+            JsonTokenizer tokenizer = tokenize(json.toString());
+            tokenizer.beginArray();
+            String s = tokenizer.nextString();
+            assertEquals(s.length(), 20000);
+            assertEquals(s.charAt(0), '\n');
+            assertEquals(s.charAt(19999), 'x');
+            assertEquals(tokenizer.nextInt(), 1234567);
+            for (int i = 0; i < 3000; i++) {
+                assertEquals(tokenizer.nextInt(), i);
+            }
+            tokenizer.endArray();
+            assertEquals(tokenizer.peek(), END_DOCUMENT);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testSkipValue() {
+        try {
+            JsonTokenizer tokenizer = tokenize("{\"a\": {\"b\": [1, {\"c\": 2.5e3}], \"d\": null}, \"e\": 3}");
+            tokenizer.beginObject();
+            assertEquals(tokenizer.nextName(), "a");
+            tokenizer.skipValue();
+            assertEquals(tokenizer.nextName(), "e");
+            tokenizer.skipValue();
+            tokenizer.endObject();
+            assertEquals(tokenizer.peek(), END_DOCUMENT);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testUnexpectedToken() {
+        assertInvalid("{\"a\": 1}", t -> t.beginArray());
+        assertInvalid("{\"a\": 1}", t -> {
+            t.beginObject();
+            t.nextString();
+        });
+        assertInvalid("[2.5]", t -> {
+            t.beginArray();
+            t.nextInt();
+        });
+        assertInvalid("{\"a\": 1}", t -> {
+            t.beginObject();
+            t.skipValue();
+        });
+    }
+
+    @Test
+    public void testMalformed() {
+        assertInvalid("{\"a\" 1}", t -> {
+            t.beginObject();
+            t.nextName();
+            t.nextInt();
+        });
+        assertInvalid("[1 2]", t -> {
+            t.beginArray();
+            t.nextInt();
+            t.nextInt();
+        });
+        assertInvalid("{\"a\": 1 \"b\": 2}", t -> t.skipValue());
+        assertInvalid("{1: 2}", t -> t.skipValue());
+        assertInvalid("[\"abc", t -> t.skipValue());
+        assertInvalid("[\"\\x\"]", t -> t.skipValue());
+        assertInvalid("[\"\\u12g4\"]", t -> t.skipValue());
+        assertInvalid("[tru]", t -> t.skipValue());
+        assertInvalid("[", t -> t.skipValue());
+        assertInvalid("[] []", t -> {
+            t.skipValue();
+            t.peek();
+        });
+    }
+
+    private interface TokenizerAction {
+        void run(JsonTokenizer tokenizer) throws IOException;
+    }
+
+    private void assertInvalid(String json, TokenizerAction action) {
+        try {
+            action.run(tokenize(json));
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package persistence;
+
+import model.Course;
+import model.CourseKey;
+import model.catalog.CourseCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedCatalogTest extends JsonTest {
+
+    private static final String TERM_CATALOG = "./data/testMappedTermCatalog.map";
+    private static final String CORRUPT_CATALOG = "./data/testMappedCorruptCatalog.map";
+
+    private CourseCatalog catalog;
+
+    @BeforeEach
+    public void init() {
+        try {
+            catalog = new CatalogReader("./data/catalog.json").read();
+            MappedCatalogWriter writer = new MappedCatalogWriter(TERM_CATALOG);
+            writer.open();
+            writer.write(catalog);
+            writer.close();
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testOpenNonExistentFile() {
+        assertInvalid("./data/noSuchFile.map");
+    }
+
+    @Test
+    public void testOpenNotMappedCatalog() {
+        assertInvalid("./data/testReaderCatalog.json");
+        assertInvalid("./data/testReaderEmptyWorklist.bin");
+    }
+
+    @Test
+    public void testOpenTruncatedCatalog() {
+        try {
+            byte[] bytes = Files.readAllBytes(Paths.get(TERM_CATALOG));
+            Files.write(Paths.get("./data/testMappedTruncatedCatalog.map"), Arrays.copyOf(bytes, bytes.length - 1));
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+        assertInvalid("./data/testMappedTruncatedCatalog.map");
+    }
+
+    @Test
+    public void testOpenCatalog() {
+        try {
+            MappedCatalog mapped = new MappedCatalog(TERM_CATALOG);
+            assertEquals(mapped.getTerm(), "2021W1");
+            assertEquals(mapped.size(), catalog.size());
+            for (int i = 0; i < mapped.size(); i++) {
+                Course expected = catalog.getSections().get(i);
+                checkCourse(expected.getSubjectCode(), expected.getCourseCode(), expected.getSectionCode(),
+                        expected.getTitle(), expected.getSchedule(), expected.getCredits(), expected.isRequired(),
+                        expected.isStarred(), mapped.getSection(i));
+                assertEquals(mapped.getDayMask(i), expected.getSchedule().getDayMask());
+                assertEquals(mapped.getStartMinute(i), expected.getSchedule().getStartMinute());
+                assertEquals(mapped.getEndMinute(i), expected.getSchedule().getEndMinute());
+            }
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testLookupByKey() {
+        try {
+            MappedCatalog mapped = new MappedCatalog(TERM_CATALOG);
+            for (int i = 0; i < mapped.size(); i++) {
+                Course section = catalog.getSections().get(i);
+                assertEquals(mapped.indexOf(section.getKey()), i);
+                assertEquals(mapped.getSection(section.getKey()).getKey(), section.getKey());
+            }
+            assertEquals(mapped.indexOf(CourseKey.of("CPSC", "210", "999")), -1);
+            assertEquals(mapped.indexOf(CourseKey.of("AAAA", "100", "001")), -1);
+            assertEquals(mapped.indexOf(CourseKey.of("ZZZZ", "100", "001")), -1);
+            assertNull(mapped.getSection(CourseKey.of("CPSC", "2100", "101")));
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testEmptyCatalog() {
+        try {
+            MappedCatalogWriter writer = new MappedCatalogWriter("./data/testMappedEmptyCatalog.map");
+            writer.open();
+            writer.write(new CourseCatalog("Empty", Arrays.asList()));
+            writer.close();
+
+            MappedCatalog mapped = new MappedCatalog("./data/testMappedEmptyCatalog.map");
+            assertEquals(mapped.getTerm(), "Empty");
+            assertEquals(mapped.size(), 0);
+            assertEquals(mapped.indexOf(CourseKey.of("CPSC", "210", "101")), -1);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testOpenCorruptTermReference() {
+        writeCorruptCatalog(20, Integer.MAX_VALUE - 1);
+        assertInvalid(CORRUPT_CATALOG);
+        writeCorruptCatalog(20, -1);
+        assertInvalid(CORRUPT_CATALOG);
+    }
+
+    @Test
+    public void testCorruptStringReferences() {
+        int mid = (catalog.size() - 1) >>> 1;
+        int record = MappedCatalogWriter.HEADER_SIZE + mid * MappedCatalogWriter.RECORD_SIZE;
+        writeCorruptCatalog(record, Integer.MAX_VALUE - 1, record + 4, -5, record + 8, -1);
+        try {
+            MappedCatalog mapped = new MappedCatalog(CORRUPT_CATALOG);
+            assertEquals(mapped.getSubjectCode(0), catalog.getSections().get(0).getSubjectCode());
+            assertThrows(UncheckedIOException.class, () -> mapped.getSubjectCode(mid));
+            assertThrows(UncheckedIOException.class, () -> mapped.getCourseCode(mid));
+            assertThrows(UncheckedIOException.class, () -> mapped.getSectionCode(mid));
+            assertThrows(UncheckedIOException.class, () -> mapped.indexOf(CourseKey.of("CPSC", "210", "101")));
+            assertThrows(IOException.class, () -> mapped.getSection(mid));
+            assertThrows(IOException.class, () -> mapped.getSection(CourseKey.of("CPSC", "210", "101")));
+            assertNotNull(mapped.getSection(0));
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private void writeCorruptCatalog(int... positionsAndValues) {
+        try {
+            byte[] bytes = Files.readAllBytes(Paths.get(TERM_CATALOG));
+            ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            for (int k = 0; k < positionsAndValues.length; k += 2) {
+                buffer.putInt(positionsAndValues[k], positionsAndValues[k + 1]);
+            }
+            Files.write(Paths.get(CORRUPT_CATALOG), bytes);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private void assertInvalid(String source) {
+        try {
+            new MappedCatalog(source);
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package persistence;
+
+import exception.IllegalDaysException;
+import exception.IllegalTimeException;
+import model.Course;
+import model.Schedule;
+import model.Time;
+import model.catalog.CourseCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedCatalogWriterTest extends JsonTest {
+
+    private Course makeSection(String subject, String course, String section, String title) {
+        try {
+            Schedule schedule = Schedule.of(0b10101, Time.ofMinuteOfDay(540), Time.ofMinuteOfDay(600));
+            return new Course(subject, course, section, title, schedule, 3, true, false);
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+            return null;
+        }
+    }
+
+    @Test
+    public void testWriterInvalidFile() {
+        try {
+            MappedCatalogWriter writer = new MappedCatalogWriter("./data/my\0illegal:fileName.map");
+            writer.open();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException | RuntimeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWriterStringTooLong() {
+        char[] title = new char[70000];
+        Arrays.fill(title, 'x');
+        CourseCatalog catalog = new CourseCatalog("Test", Arrays.asList(makeSection("CPSC", "210", "101",
+                new String(title))));
+        try {
+            MappedCatalogWriter writer = new MappedCatalogWriter("./data/testMappedWriterCatalog.map");
+            writer.open();
+            try {
+                writer.write(catalog);
+                fail(FAIL_MSG_EENT);
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWriterCreditsOutOfRange() {
+        try {
+            Schedule schedule = Schedule.of(0b10101, Time.ofMinuteOfDay(540), Time.ofMinuteOfDay(600));
+            Course section = new Course("CPSC", "210", "101", "Software", schedule, 40000, true, false);
+            MappedCatalogWriter writer = new MappedCatalogWriter("./data/testMappedWriterCatalog.map");
+            writer.open();
+            try {
+                writer.write(new CourseCatalog("Test", Arrays.asList(section)));
+                fail(FAIL_MSG_EENT);
+            } finally {
+                writer.close();
+            }
+        } catch (IllegalDaysException | IllegalTimeException e) {
+            fail(FAIL_MSG_UEET);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWriterSharedStrings() {
+        List<Course> sections = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            sections.add(makeSection("CPSC", String.valueOf(100 + i % 10), String.valueOf(i), null));
+        }
+        sections.add(makeSection("ÉTUD", "100", "001", "Étude"));
+        sections.add(makeSection("ZOOL", "100", "001", "Zoology"));
+        try {
+            MappedCatalogWriter writer = new MappedCatalogWriter("./data/testMappedWriterCatalog.map");
+            writer.open();
+            writer.write(new CourseCatalog("Test", sections));
+            writer.close();
+            File file = new File("./data/testMappedWriterCatalog.map");
+            assertTrue(file.length() < 32 + 1002 * (24 + 8));
+
+            MappedCatalog mapped = new MappedCatalog(file.getPath());
+            assertEquals(mapped.size(), 1002);
+            assertNull(mapped.getTitle(0));
+            assertEquals(mapped.getSubjectCode(1000), "ZOOL");
+            assertEquals(mapped.getSection(1001).getTitle(), "Étude");
+            assertEquals(mapped.indexOf(sections.get(1000).getKey()), 1001);
+            assertEquals(mapped.getSection(1001).isRequired(), true);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+}
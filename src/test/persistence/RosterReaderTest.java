@@ -0,0 +1,63 @@
+package persistence;
+
+import model.Worklist;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class RosterReaderTest extends JsonTest {
+
+    @Test
+    public void testReaderNonExistentFile() {
+        try {
+            RosterReader reader = new RosterReader(Arrays.asList("./data/testReaderEmptyWorklist.json",
+                    "./data/noSuchFile.json"));
+            reader.read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReaderInvalidWorklist() {
+        try {
+            RosterReader reader = new RosterReader(Arrays.asList("./data/testReaderInvalidWorklist.json"));
+            reader.read();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReaderRoster() {
+        try {
+            RosterReader reader = new RosterReader(Arrays.asList("./data/testReaderGeneralWorklist.json",
+                    "./data/testReaderEmptyWorklist.json", "./data/testReaderGeneralWorklist.json"));
+            List<Worklist> worklists = reader.read();
+            assertEquals(3, worklists.size());
+            assertEquals(3, worklists.get(0).getCourses().size());
+            assertEquals(0, worklists.get(1).getCourses().size());
+            assertEquals(3, worklists.get(2).getCourses().size());
+            assertEquals("CHEM 208 112", worklists.get(2).getCourses().get(0).getKey().toString());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testReaderEmptyRoster() {
+        try {
+            assertEquals(0, new RosterReader(Arrays.asList()).read().size());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+}
@@ -0,0 +1,339 @@
+package persistence;
+
+import exception.CourseAlreadyExistsException;
+import exception.CourseConflictsException;
+import exception.CourseNotFoundException;
+import model.Course;
+import model.Worklist;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorklistJournalTest extends JsonTest {
+
+    private static final String SNAPSHOT_PATH = "./data/testJournalWorklist.json";
+    private static final String JOURNAL_PATH = "./data/testJournalWorklist.journal";
+
+    private Path snapshot;
+    private Path journal;
+    private Worklist testWorklist;
+
+    @BeforeEach
+    public void init() throws IOException {
+        snapshot = Paths.get(SNAPSHOT_PATH);
+        journal = Paths.get(JOURNAL_PATH);
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(journal);
+        initCourses();
+        testWorklist = new Worklist("Test Worklist");
+        try {
+            testWorklist.addCourse(testCourse1);
+            testWorklist.addCourse(testCourse2);
+        } catch (CourseAlreadyExistsException | CourseConflictsException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testSaveInvalidFile() {
+        try {
+            new WorklistJournal("./data/my\0illegal:fileName.json", JOURNAL_PATH).save(testWorklist);
+            fail(FAIL_MSG_EENT);
+        } catch (IOException | RuntimeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLoadNonExistentFile() {
+        try {
+            new WorklistJournal("./data/noSuchFile.json", JOURNAL_PATH).load();
+            fail(FAIL_MSG_EENT);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSaveNewWorklist() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testJournal.save(testWorklist);
+
+            assertEquals(testJournal.getNumRecords(), 0);
+            assertEquals(Files.readAllLines(journal).size(), 1);
+            String json = JsonReader.readFile(SNAPSHOT_PATH);
+            assertTrue(new JSONObject(json).similar(new JSONObject(testWorklist.toJson().toString())));
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testSaveAppendsChanges() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testJournal.save(testWorklist);
+            byte[] savedSnapshot = Files.readAllBytes(snapshot);
+
+            makeChanges();
+            assertEquals(testJournal.getNumPending(), 5);
+            testJournal.save(testWorklist);
+            assertEquals(testJournal.getNumPending(), 0);
+            assertEquals(testJournal.getNumRecords(), 5);
+            assertArrayEquals(Files.readAllBytes(snapshot), savedSnapshot);
+            List<String> lines = Files.readAllLines(journal);
+            assertEquals(lines.size(), 6);
+            assertEquals(lines.get(2),
+                    "{\"op\":\"delete\",\"subjectCode\":\"CPSC\",\"courseCode\":\"221\",\"sectionCode\":\"103\"}");
+
+            WorklistJournal loadJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            checkChangedCourses(loadJournal.load());
+            assertEquals(loadJournal.getNumRecords(), 5);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testSaveWithoutChanges() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testJournal.save(testWorklist);
+            byte[] savedJournal = Files.readAllBytes(journal);
+
+            testJournal.save(testWorklist);
+            assertArrayEquals(Files.readAllBytes(journal), savedJournal);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testSaveCompactsJournal() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH, 4);
+            testJournal.save(testWorklist);
+            makeChanges();
+            testJournal.save(testWorklist);
+
+            assertEquals(testJournal.getNumRecords(), 0);
+            assertEquals(Files.readAllLines(journal).size(), 1);
+            checkChangedCourses(new JsonReader(SNAPSHOT_PATH).read());
+            checkChangedCourses(new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).load());
+            assertFalse(Files.exists(Paths.get(SNAPSHOT_PATH + ".tmp")));
+            assertFalse(Files.exists(Paths.get(JOURNAL_PATH + ".tmp")));
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testLoadThenSaveAppends() {
+        try {
+            new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).save(testWorklist);
+
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testWorklist = testJournal.load();
+            makeChanges();
+            testJournal.save(testWorklist);
+
+            assertEquals(Files.readAllLines(journal).size(), 6);
+            checkChangedCourses(new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).load());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testSaveOtherWorklist() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testJournal.save(testWorklist);
+            Worklist oldWorklist = testWorklist;
+
+            testWorklist = new Worklist("Other Worklist");
+            testJournal.save(testWorklist);
+            oldWorklist.starCourse(testCourse2);
+            assertEquals(testJournal.getNumPending(), 0);
+
+            Worklist loaded = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).load();
+            assertEquals(loaded.getName(), "Other Worklist");
+            assertEquals(loaded.getCourses().size(), 0);
+        } catch (IOException | CourseNotFoundException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testLoadWithoutJournal() {
+        try {
+            Files.copy(Paths.get("./data/testReaderGeneralWorklist.json"), snapshot,
+                    StandardCopyOption.REPLACE_EXISTING);
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testWorklist = testJournal.load();
+            assertEquals(testWorklist.getCourses().size(), 3);
+
+            testJournal.save(testWorklist);
+            assertEquals(Files.readAllLines(journal).size(), 1);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testLoadIgnoresStaleJournal() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testJournal.save(testWorklist);
+            makeChanges();
+            testJournal.save(testWorklist);
+            List<String> lines = Files.readAllLines(journal);
+            lines.set(0, "{\"op\":\"snapshot\",\"checksum\":\"0\"}");
+            Files.write(journal, lines);
+
+            testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testWorklist = testJournal.load();
+            assertEquals(testWorklist.getCourses().size(), 2);
+            assertEquals(testJournal.getNumRecords(), 0);
+
+            testJournal.save(testWorklist);
+            assertEquals(Files.readAllLines(journal).size(), 1);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testLoadIgnoresTornRecord() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testJournal.save(testWorklist);
+            makeChanges();
+            testJournal.save(testWorklist);
+            Files.write(journal, "{\"op\":\"star\",\"subjectCo".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+
+            testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testWorklist = testJournal.load();
+            checkChangedCourses(testWorklist);
+
+            testJournal.save(testWorklist);
+            assertEquals(Files.readAllLines(journal).size(), 1);
+            checkChangedCourses(new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).load());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testLoadStopsAtInvalidRecord() {
+        checkInvalidRecord("{\"op\":\"rename\",\"subjectCode\":\"CPSC\",\"courseCode\":\"221\","
+                + "\"sectionCode\":\"103\"}\n");
+        checkInvalidRecord("{\"op\":\"star\",\"subjectCode\":\"CPSC\"}\n");
+        checkInvalidRecord("{\"subjectCode\":\"CPSC\",\"courseCode\":\"221\",\"sectionCode\":\"103\"}\n");
+        checkInvalidRecord("{\"op\":\"star\"} {}\n");
+        checkInvalidRecord("{\"op\":\"delete\",\"subjectCode\":\"PSYC\",\"courseCode\":\"305A\","
+                + "\"sectionCode\":\"001\"}\n");
+    }
+
+    @Test
+    public void testLoadInvalidHeader() {
+        try {
+            new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).save(testWorklist);
+            Files.write(journal, "{\"op\":\n".getBytes(StandardCharsets.UTF_8));
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            assertEquals(testJournal.load().getCourses().size(), 2);
+            assertEquals(testJournal.getNumRecords(), 0);
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    @Test
+    public void testSaveAfterFailedAppend() {
+        try {
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            testJournal.save(testWorklist);
+            makeChanges();
+            Files.delete(journal);
+            Files.createDirectory(journal);
+            try {
+                testJournal.save(testWorklist);
+                fail(FAIL_MSG_EENT);
+            } catch (IOException e) {
+                // expected
+            }
+            assertEquals(testJournal.getNumPending(), 5);
+            Files.delete(journal);
+
+            testJournal.save(testWorklist);
+            assertEquals(testJournal.getNumPending(), 0);
+            assertEquals(Files.readAllLines(journal).size(), 1);
+            checkChangedCourses(new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).load());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private void checkInvalidRecord(String record) {
+        try {
+            new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).save(testWorklist);
+            String star = "{\"op\":\"star\",\"subjectCode\":\"CPSC\",\"courseCode\":\"213\","
+                    + "\"sectionCode\":\"102\"}\n";
+            String delete = "{\"op\":\"delete\",\"subjectCode\":\"CPSC\",\"courseCode\":\"221\","
+                    + "\"sectionCode\":\"103\"}\n";
+            Files.write(journal, (star + record + delete).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+
+            WorklistJournal testJournal = new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH);
+            Worklist loaded = testJournal.load();
+            List<Course> courses = loaded.getCourses();
+            assertEquals(courses.size(), 2);
+            assertTrue(courses.get(1).isStarred());
+
+            testJournal.save(loaded);
+            assertEquals(Files.readAllLines(journal).size(), 1);
+            assertTrue(new WorklistJournal(SNAPSHOT_PATH, JOURNAL_PATH).load().getCourses().get(1).isStarred());
+        } catch (IOException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private void makeChanges() {
+        try {
+            Course course2 = testWorklist.getCourses().get(1);
+            testWorklist.addCourse(testCourse3);
+            testWorklist.deleteCourse(testCourse1);
+            testWorklist.starCourse(course2);
+            testWorklist.setRequired(course2, false);
+            testWorklist.setRequired(testCourse3, true);
+        } catch (CourseAlreadyExistsException | CourseConflictsException | CourseNotFoundException e) {
+            fail(FAIL_MSG_UEET);
+        }
+    }
+
+    private void checkChangedCourses(Worklist wl) {
+        assertEquals(wl.getName(), "Test Worklist");
+        List<Course> courses = wl.getCourses();
+        assertEquals(courses.size(), 2);
+        checkCourse("CPSC", "213", "102",
+                "Introduction to Computer Systems",
+                testSchedule2, 4, false, true, courses.get(0));
+        checkCourse("PSYC", "305A", "001",
+                "Personality Psychology",
+                testSchedule3, 3, true, false, courses.get(1));
+    }
+
+}